@@ -0,0 +1,95 @@
+package com.likelion.danchu.infra.openAI;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 가게 전체 스캔 비용 비교: 기존 double[] 코사인(매번 노름 계산) vs 정규화 float32 내적 vs int8 내적
+ *
+ * <p>실행: {@code ./gradlew jmh}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingVectorsBenchmark {
+
+  @Param({"1536"})
+  int dimension;
+
+  @Param({"1000"})
+  int size;
+
+  private double[] queryDouble;
+  private double[][] storeDouble;
+  private float[] query;
+  private FlatVectorStore float32;
+  private FlatVectorStore int8;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    queryDouble = randomVector(random);
+    storeDouble = new double[size][];
+    List<float[]> normalized = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      storeDouble[i] = randomVector(random);
+      normalized.add(EmbeddingVectors.normalize(storeDouble[i]));
+    }
+    query = EmbeddingVectors.normalize(queryDouble);
+    float32 = FlatVectorStore.of(normalized, false);
+    int8 = FlatVectorStore.of(normalized, true);
+  }
+
+  @Benchmark
+  public void cosineDouble(Blackhole bh) {
+    for (double[] v : storeDouble) {
+      bh.consume(cosine(queryDouble, v));
+    }
+  }
+
+  @Benchmark
+  public void dotFloat32(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      bh.consume(float32.dot(query, i));
+    }
+  }
+
+  @Benchmark
+  public void dotInt8(Blackhole bh) {
+    for (int i = 0; i < size; i++) {
+      bh.consume(int8.dot(query, i));
+    }
+  }
+
+  private double[] randomVector(Random random) {
+    double[] v = new double[dimension];
+    for (int i = 0; i < dimension; i++) {
+      v[i] = random.nextGaussian();
+    }
+    return v;
+  }
+
+  /** 기존 OpenAIUtil.cosine 구현 (비교 기준) */
+  private static double cosine(double[] a, double[] b) {
+    double dot = 0.0, na = 0.0, nb = 0.0;
+    for (int i = 0; i < a.length; i++) {
+      dot += a[i] * b[i];
+      na += a[i] * a[i];
+      nb += b[i] * b[i];
+    }
+    if (na == 0 || nb == 0) return -1.0;
+    return dot / (Math.sqrt(na) * Math.sqrt(nb));
+  }
+}
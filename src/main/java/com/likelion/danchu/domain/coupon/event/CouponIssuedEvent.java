@@ -0,0 +1,10 @@
+package com.likelion.danchu.domain.coupon.event;
+
+/**
+ * 쿠폰이 발급되었음을 알리는 이벤트 (미션 보상/스탬프 보상/직접 등록)
+ *
+ * @param userId 쿠폰을 받은 사용자 ID
+ * @param storeId 쿠폰을 사용할 가게 ID
+ * @param couponId 발급된 쿠폰 ID
+ */
+public record CouponIssuedEvent(Long userId, Long storeId, Long couponId) {}
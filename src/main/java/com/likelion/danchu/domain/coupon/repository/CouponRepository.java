@@ -4,6 +4,8 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.likelion.danchu.domain.coupon.entity.Coupon;
@@ -20,4 +22,36 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
   // 해당 가게의 쿠폰 전부 삭제 (가게 삭제 시 연관 정리용)
   void deleteByStore_Id(Long storeId);
+
+  // 만료된 쿠폰 ID를 PK 오름차순으로 최대 limit개 조회 (afterId 이후 구간만, 배치 삭제용)
+  @Query(
+      value =
+          """
+              SELECT c.id
+              FROM coupon c
+              WHERE c.id > :afterId
+                AND c.expiration_date < :today
+              ORDER BY c.id
+              LIMIT :limit
+              """,
+      nativeQuery = true)
+  List<Long> findExpiredIdsAfter(
+      @Param("today") LocalDate today, @Param("afterId") long afterId, @Param("limit") int limit);
+
+  // 삭제할 쿠폰들의 이미지 중 다른 쿠폰/가게/미션(보관 포함)이 함께 쓰지 않는 URL만 조회 (가게 메인 이미지 재사용 쿠폰 보호)
+  @Query(
+      value =
+          """
+              SELECT DISTINCT c.image_url
+              FROM coupon c
+              WHERE c.id IN (:ids)
+                AND NOT EXISTS (
+                  SELECT 1 FROM coupon o WHERE o.image_url = c.image_url AND o.id NOT IN (:ids))
+                AND NOT EXISTS (SELECT 1 FROM store s WHERE s.main_image_url = c.image_url)
+                AND NOT EXISTS (SELECT 1 FROM mission m WHERE m.reward_image_url = c.image_url)
+                AND NOT EXISTS (
+                  SELECT 1 FROM mission_archive a WHERE a.reward_image_url = c.image_url)
+              """,
+      nativeQuery = true)
+  List<String> findUnsharedImageUrlsByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,101 @@
+package com.likelion.danchu.domain.coupon.scheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.coupon.service.CouponService;
+import com.likelion.danchu.infra.s3.service.S3Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 쿠폰 정리 스케줄러
+ *
+ * <p>만료일이 지난 쿠폰을 PK 구간 단위로 나눠 삭제합니다. 묶음마다 트랜잭션을 따로 커밋하고 묶음 사이에 잠시 쉬어 긴 락을 잡지 않으며, 묶음이 커밋된 뒤에 해당 쿠폰
+ * 이미지를 S3에서 일괄 삭제합니다.
+ *
+ * <p>메트릭: {@code coupon.purge.rows}(삭제 건수), {@code coupon.purge.images}(삭제한 이미지 수), {@code
+ * coupon.purge.duration}(전체 소요 시간)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredCouponPurgeScheduler {
+
+  private final CouponService couponService;
+  private final S3Service s3Service;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${coupon.purge.batch-size:500}")
+  private int batchSize;
+
+  @Value("${coupon.purge.pause-millis:200}")
+  private long pauseMillis;
+
+  @Scheduled(cron = "${coupon.purge.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+  public void purgeExpiredCoupons() {
+    // 쿠폰 조회(getAllValidCoupons)와 같은 기준 날짜 사용
+    LocalDate today = LocalDate.now();
+    Timer.Sample sample = Timer.start(meterRegistry);
+
+    long afterId = 0L;
+    long totalRows = 0L;
+    long totalImages = 0L;
+    try {
+      while (true) {
+        CouponService.PurgeResult result =
+            couponService.purgeExpiredChunk(today, afterId, batchSize);
+        if (result.deletedCount() == 0) {
+          break;
+        }
+
+        totalRows += result.deletedCount();
+        meterRegistry.counter("coupon.purge.rows").increment(result.deletedCount());
+
+        int images = deleteImages(result.imageUrls());
+        totalImages += images;
+        meterRegistry.counter("coupon.purge.images").increment(images);
+
+        afterId = result.lastId();
+        if (result.deletedCount() < batchSize) {
+          break;
+        }
+
+        // 쓰로틀링: 다음 묶음 전에 잠시 대기
+        Thread.sleep(pauseMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.error("[CouponPurge] stopped at afterId={}", afterId, e);
+    } finally {
+      long elapsedNanos = sample.stop(meterRegistry.timer("coupon.purge.duration"));
+      log.info(
+          "[CouponPurge] rows={}, images={}, elapsedMs={}",
+          totalRows,
+          totalImages,
+          elapsedNanos / 1_000_000);
+    }
+  }
+
+  /** 이미지 삭제 실패는 쿠폰 삭제를 막지 않음 (다음 묶음 계속 진행) */
+  private int deleteImages(List<String> imageUrls) {
+    if (imageUrls.isEmpty()) {
+      return 0;
+    }
+    try {
+      return s3Service.deleteByUrls(imageUrls);
+    } catch (Exception e) {
+      log.warn(
+          "[CouponPurge] image delete failed. count={}, cause={}", imageUrls.size(), e.toString());
+      return 0;
+    }
+  }
+}
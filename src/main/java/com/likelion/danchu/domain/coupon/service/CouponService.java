@@ -5,19 +5,20 @@ import java.util.List;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.likelion.danchu.domain.coupon.dto.request.CouponRequest;
 import com.likelion.danchu.domain.coupon.dto.response.CouponResponse;
 import com.likelion.danchu.domain.coupon.entity.Coupon;
+import com.likelion.danchu.domain.coupon.event.CouponIssuedEvent;
 import com.likelion.danchu.domain.coupon.exception.CouponErrorCode;
 import com.likelion.danchu.domain.coupon.mapper.CouponMapper;
 import com.likelion.danchu.domain.coupon.repository.CouponRepository;
 import com.likelion.danchu.domain.mission.entity.Mission;
-import com.likelion.danchu.domain.mission.exception.MissionErrorCode;
-import com.likelion.danchu.domain.mission.repository.MissionRepository;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.exception.StoreErrorCode;
 import com.likelion.danchu.domain.store.repository.StoreRepository;
@@ -25,6 +26,7 @@ import com.likelion.danchu.domain.user.entity.User;
 import com.likelion.danchu.domain.user.exception.UserErrorCode;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.retry.RetryOnConflict;
 import com.likelion.danchu.global.security.SecurityUtil;
 import com.likelion.danchu.infra.s3.entity.PathName;
 import com.likelion.danchu.infra.s3.service.S3Service;
@@ -40,8 +42,8 @@ public class CouponService {
   private final CouponMapper couponMapper;
   private final UserRepository userRepository;
   private final StoreRepository storeRepository;
-  private final MissionRepository missionRepository;
   private final S3Service s3Service;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 쿠폰 생성을 처리하는 메서드
@@ -74,8 +76,7 @@ public class CouponService {
     String imageUrl = uploadRequiredImage(imageFile);
 
     // 엔티티 생성 -> 저장
-    Coupon coupon = couponMapper.toEntity(user, store, reward, imageUrl);
-    Coupon saved = couponRepository.save(coupon);
+    Coupon saved = saveCoupon(user, store, reward, imageUrl);
 
     // 응답 변환
     return couponMapper.toResponse(saved);
@@ -122,6 +123,7 @@ public class CouponService {
    *     COUPON_OWNER_MISMATCH}), 가게 불일치({@code COUPON_STORE_MISMATCH}), 삭제 실패({@code
    *     COUPON_DELETE_FAILED}) 시 발생
    */
+  @RetryOnConflict
   public void useCoupon(Long couponId, CouponRequest.UseRequest request) {
     // 1) 현재 로그인 사용자
     Long userId = SecurityUtil.getCurrentUserId();
@@ -153,22 +155,23 @@ public class CouponService {
     // 5) 삭제
     try {
       couponRepository.delete(coupon);
+    } catch (OptimisticLockingFailureException e) {
+      throw e;
     } catch (DataAccessException e) {
       throw new CustomException(CouponErrorCode.COUPON_DELETE_FAILED);
     }
   }
 
-  public CouponResponse createCouponFromMission(Long missionId, Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-
-    Mission mission =
-        missionRepository
-            .findById(missionId)
-            .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
-
+  /**
+   * 미션 보상 쿠폰 발급
+   *
+   * <p>호출 측에서 이미 조회한 미션(가게 포함)과 사용자를 그대로 사용하므로 추가 조회 없이 INSERT 1회로 처리됩니다.
+   *
+   * @param user 쿠폰을 받을 사용자 (참조 프록시 가능)
+   * @param mission 완료한 미션 (가게가 함께 로딩된 상태)
+   * @return 발급된 쿠폰 응답
+   */
+  public CouponResponse createCouponFromMission(User user, Mission mission) {
     Store store = mission.getStore();
     if (store == null) {
       throw new CustomException(StoreErrorCode.STORE_NOT_FOUND);
@@ -204,13 +207,17 @@ public class CouponService {
     }
   }
 
+  /** 쿠폰 저장 후 발급 이벤트 발행 (이벤트 스트림 반영은 커밋 이후) */
   private Coupon saveCoupon(User user, Store store, String reward, String imageUrl) {
+    Coupon saved;
     try {
       Coupon coupon = couponMapper.toEntity(user, store, reward, imageUrl);
-      return couponRepository.save(coupon);
+      saved = couponRepository.save(coupon);
     } catch (Exception e) {
       throw new CustomException(CouponErrorCode.COUPON_SAVE_FAILED);
     }
+    eventPublisher.publishEvent(new CouponIssuedEvent(user.getId(), store.getId(), saved.getId()));
+    return saved;
   }
 
   public CouponResponse createCouponFromStore(Long storeId, Long userId) {
@@ -227,12 +234,33 @@ public class CouponService {
     String reward = normalizeReward(store.getStampReward());
     String imageUrl = store.getMainImageUrl();
 
-    try {
-      Coupon toSave = couponMapper.toEntity(user, store, reward, imageUrl);
-      Coupon saved = couponRepository.save(toSave);
-      return couponMapper.toResponse(saved);
-    } catch (DataAccessException e) {
-      throw new CustomException(CouponErrorCode.COUPON_SAVE_FAILED);
+    Coupon saved = saveCoupon(user, store, reward, imageUrl);
+    return couponMapper.toResponse(saved);
+  }
+
+  /**
+   * 만료된 쿠폰을 PK 구간 단위로 한 묶음만 삭제합니다. (스케줄러에서 묶음마다 별도 트랜잭션으로 호출)
+   *
+   * <p>{@code afterId} 이후의 만료 쿠폰을 최대 {@code limit}개만 삭제하므로 한 번에 잡는 락 범위가 제한됩니다. S3 이미지는 커밋 이후 호출
+   * 측에서 정리할 수 있도록 URL만 모아 반환합니다.
+   *
+   * @param today 기준 날짜 (만료일이 이 날짜보다 이전이면 삭제 대상)
+   * @param afterId 이전 묶음에서 마지막으로 처리한 쿠폰 ID (처음이면 0)
+   * @param limit 한 묶음의 최대 삭제 건수
+   * @return 삭제 건수, 마지막 처리 ID, 정리할 이미지 URL 목록
+   */
+  public PurgeResult purgeExpiredChunk(LocalDate today, long afterId, int limit) {
+    List<Long> ids = couponRepository.findExpiredIdsAfter(today, afterId, limit);
+    if (ids.isEmpty()) {
+      return new PurgeResult(0, afterId, List.of());
     }
+
+    List<String> imageUrls = couponRepository.findUnsharedImageUrlsByIds(ids);
+    couponRepository.deleteAllByIdInBatch(ids);
+
+    return new PurgeResult(ids.size(), ids.get(ids.size() - 1), imageUrls);
   }
+
+  /** 만료 쿠폰 한 묶음의 삭제 결과 */
+  public record PurgeResult(int deletedCount, long lastId, List<String> imageUrls) {}
 }
@@ -1,5 +1,6 @@
 package com.likelion.danchu.domain.menu.service;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import com.likelion.danchu.domain.menu.repository.MenuRepository;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.repository.StoreRepository;
 import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.outbox.service.OutboxService;
 import com.likelion.danchu.infra.s3.entity.PathName;
 import com.likelion.danchu.infra.s3.service.S3Service;
 
@@ -29,6 +31,7 @@ public class MenuService {
   private final MenuRepository menuRepository;
   private final MenuMapper menuMapper;
   private final S3Service s3Service;
+  private final OutboxService outboxService;
 
   /**
    * 새로운 메뉴 생성=
@@ -112,15 +115,8 @@ public class MenuService {
       throw new CustomException(MenuErrorCode.MENU_NOT_FOUND); // 다른 가게의 메뉴를 잘못 요청한 경우
     }
 
-    // S3 이미지 삭제 (있을 경우)
-    String url = menu.getImageUrl(); // 엔티티 필드명 맞춰 사용
-    if (url != null && !url.isBlank()) {
-      try {
-        s3Service.deleteByUrl(url);
-      } catch (Exception ignored) {
-        // 이미지 삭제 실패는 무시하고 메뉴 삭제 진행
-      }
-    }
+    // S3 이미지 삭제 예약 (커밋된 경우에만 삭제, 없으면 무시)
+    outboxService.enqueueImageDeletes(Collections.singletonList(menu.getImageUrl()));
 
     // 메뉴 삭제
     menuRepository.delete(menu);
@@ -7,12 +7,14 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,8 +22,12 @@ import org.springframework.web.multipart.MultipartFile;
 import com.likelion.danchu.domain.coupon.dto.response.CouponResponse;
 import com.likelion.danchu.domain.hashtag.service.HashtagService;
 import com.likelion.danchu.domain.mission.dto.request.MissionRequest;
+import com.likelion.danchu.domain.mission.dto.response.MissionBulkCreateResponse;
+import com.likelion.danchu.domain.mission.dto.response.MissionRankResponse;
 import com.likelion.danchu.domain.mission.dto.response.MissionResponse;
+import com.likelion.danchu.domain.mission.dto.response.MissionTodaySnapshotResponse;
 import com.likelion.danchu.domain.mission.service.MissionService;
+import com.likelion.danchu.domain.mission.service.MissionUpdateBroadcaster;
 import com.likelion.danchu.domain.stamp.dto.request.StampRequest;
 import com.likelion.danchu.global.response.BaseResponse;
 import com.likelion.danchu.global.security.SecurityUtil;
@@ -31,6 +37,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -40,6 +47,7 @@ public class MissionController {
 
   private final HashtagService hashtagService;
   private final MissionService missionService;
+  private final MissionUpdateBroadcaster missionUpdateBroadcaster;
 
   @Operation(
       summary = "미션 생성",
@@ -66,6 +74,34 @@ public class MissionController {
         .body(BaseResponse.success("미션 생성에 성공했습니다.", missionResponse));
   }
 
+  @Operation(
+      summary = "미션 일괄 생성 (기간 + 반복 요일)",
+      description =
+          """
+              같은 내용의 미션을 기간 내 지정한 요일마다 한 번에 등록합니다.
+              - startDate/endDate: **yyyy-MM-dd** (포함, 최대 92일)
+              - daysOfWeek: 반복 요일 (예: ["MONDAY", "FRIDAY"]), 비우면 매일
+              - image: 선택 (한 번만 업로드되어 모든 미션이 공유)
+              - 같은 가게/제목/날짜의 미션이 이미 있는 날짜는 건너뛰며, 모든 날짜가 중복이면 409(CONFLICT)
+              """)
+  @PostMapping(
+      path = "/bulk",
+      consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<BaseResponse<MissionBulkCreateResponse>> createMissions(
+      @Parameter(content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+          @RequestPart("missionRequest")
+          @Valid
+          MissionRequest.BulkCreateRequest missionRequest,
+      @Parameter(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE))
+          @RequestPart(value = "image", required = false)
+          MultipartFile imageFile) {
+
+    MissionBulkCreateResponse response = missionService.createMissions(missionRequest, imageFile);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(BaseResponse.success("미션 일괄 생성에 성공했습니다.", response));
+  }
+
   @Operation(
       summary = "오늘의 미션 조회 (이미 완료한 미션 제외)",
       description =
@@ -80,6 +116,24 @@ public class MissionController {
     return ResponseEntity.ok(BaseResponse.success("오늘의 미션 조회 성공", responses));
   }
 
+  @Operation(
+      summary = "오늘의 미션 실시간 구독 (SSE)",
+      description =
+          """
+              오늘의 미션과 인기 순위를 Server-Sent Events로 구독합니다. (로그인 필요)
+              - snapshot: 연결 직후 1회, 오늘의 미션 목록(완료 미션 제외)과 인기 순위
+              - popularity: 미션 완료 수 증가분 (missionId, completedCountDelta)
+              - completed: 내가 완료한 미션 (목록에서 제거)
+              - catalog: 오늘 미션 목록 변경 (/today 재조회 필요)
+              - 일정 시간마다 빈 comment(ping)를 보내며, 연결은 최대 30분 후 종료되므로 재연결해야 합니다.
+              """)
+  @GetMapping(path = "/today/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public Flux<ServerSentEvent<Object>> streamTodayMissions() {
+    Long userId = SecurityUtil.getCurrentUserId();
+    MissionTodaySnapshotResponse snapshot = missionService.getTodaySnapshot(userId);
+    return missionUpdateBroadcaster.connect(userId, snapshot);
+  }
+
   @Operation(summary = "미션 상세 조회", description = "미션 상세 내용을 조회합니다.")
   @GetMapping("/{missionId}")
   public ResponseEntity<BaseResponse<MissionResponse>> getMission(@PathVariable Long missionId) {
@@ -119,6 +173,22 @@ public class MissionController {
     return ResponseEntity.ok(BaseResponse.success("인기 미션 조회에 성공했습니다.", missionResponse));
   }
 
+  @Operation(
+      summary = "오늘의 인기 미션 순위 조회",
+      description =
+          """
+              오늘 날짜의 미션을 완료한 유저 수 기준 내림차순으로 반환합니다.
+              - size: 조회 개수 (기본 10, 최대 50)
+              - 완료 이력이 없으면 빈 배열([]) 반환
+              """)
+  @GetMapping("/popular/ranking")
+  public ResponseEntity<BaseResponse<List<MissionRankResponse>>> getPopularMissionRanking(
+      @Parameter(description = "조회 개수", example = "10") @RequestParam(defaultValue = "10")
+          int size) {
+    List<MissionRankResponse> responses = missionService.getPopularMissionRanking(size);
+    return ResponseEntity.ok(BaseResponse.success("인기 미션 순위 조회에 성공했습니다.", responses));
+  }
+
   @Operation(
       summary = "미션 날짜 변경",
       description =
@@ -1,6 +1,8 @@
 package com.likelion.danchu.domain.mission.dto.request;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.Set;
 
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
@@ -77,4 +79,44 @@ public class MissionRequest {
     @Schema(description = "복제 생성할 날짜 (yyyy-MM-dd)", example = "2025-08-21")
     private LocalDate date;
   }
+
+  @Getter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Schema(name = "BulkCreateRequest", description = "미션 일괄 생성 요청(기간 + 반복 요일)")
+  public static class BulkCreateRequest {
+
+    @NotNull(message = "가게 ID는 필수입니다.")
+    @Schema(description = "대상 가게 ID", example = "1")
+    private Long storeId;
+
+    @NotBlank(message = "미션 제목은 필수입니다.")
+    @Size(max = 50, message = "미션 제목은 50자 이내여야 합니다.")
+    @Schema(description = "미션 제목", example = "오픈 시간 방문 미션")
+    private String title;
+
+    @NotBlank(message = "미션 설명은 필수입니다.")
+    @Size(max = 100, message = "미션 설명은 100자 이내여야 합니다.")
+    @Schema(description = "미션 설명", example = "오전 10시~12시 사이 방문 시 무료 음료 제공")
+    private String description;
+
+    @NotBlank(message = "보상 정보는 필수입니다.")
+    @Size(max = 100, message = "보상 정보는 100자 이내여야 합니다.")
+    @Schema(description = "보상 정보", example = "사이다 1캔 무료")
+    private String reward;
+
+    @NotNull(message = "시작 날짜는 필수입니다.")
+    @FutureOrPresent(message = "미션 날짜는 오늘 이후여야 합니다.")
+    @Schema(description = "시작 날짜 (yyyy-MM-dd, 포함)", example = "2025-08-08")
+    private LocalDate startDate;
+
+    @NotNull(message = "종료 날짜는 필수입니다.")
+    @FutureOrPresent(message = "미션 날짜는 오늘 이후여야 합니다.")
+    @Schema(description = "종료 날짜 (yyyy-MM-dd, 포함)", example = "2025-08-31")
+    private LocalDate endDate;
+
+    @Schema(description = "반복 요일 (비우면 매일)", example = "[\"MONDAY\", \"WEDNESDAY\", \"FRIDAY\"]")
+    private Set<DayOfWeek> daysOfWeek;
+  }
 }
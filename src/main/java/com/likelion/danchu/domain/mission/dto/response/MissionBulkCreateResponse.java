@@ -0,0 +1,29 @@
+package com.likelion.danchu.domain.mission.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "MissionBulkCreateResponse DTO", description = "미션 일괄 생성 결과")
+public class MissionBulkCreateResponse {
+
+  @Schema(description = "대상 가게 ID", example = "1")
+  private Long storeId;
+
+  @Schema(description = "미션 제목", example = "오픈 시간 방문 미션")
+  private String title;
+
+  @Schema(description = "보상 이미지 URL (없으면 null)")
+  private String rewardImageUrl;
+
+  @Schema(description = "생성된 날짜 목록")
+  private List<LocalDate> createdDates;
+
+  @Schema(description = "같은 제목의 미션이 이미 있어 건너뛴 날짜 목록")
+  private List<LocalDate> skippedDates;
+}
@@ -0,0 +1,22 @@
+package com.likelion.danchu.domain.mission.dto.response;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "MissionDeltaResponse DTO", description = "오늘의 미션 실시간 변경분")
+public class MissionDeltaResponse {
+
+  @Schema(description = "미션 날짜", example = "2025-08-20")
+  private LocalDate date;
+
+  @Schema(description = "변경된 미션 ID (목록 변경 알림이면 null)", example = "1")
+  private Long missionId;
+
+  @Schema(description = "완료한 사용자 수 증가분", example = "1")
+  private long completedCountDelta;
+}
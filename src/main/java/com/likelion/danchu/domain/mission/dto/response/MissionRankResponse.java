@@ -0,0 +1,20 @@
+package com.likelion.danchu.domain.mission.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "MissionRankResponse DTO", description = "인기 미션 순위 응답")
+public class MissionRankResponse {
+
+  @Schema(description = "순위 (1부터 시작)", example = "1")
+  private int rank;
+
+  @Schema(description = "미션을 완료한 사용자 수", example = "42")
+  private long completedCount;
+
+  @Schema(description = "미션 정보")
+  private MissionResponse mission;
+}
@@ -3,10 +3,14 @@ package com.likelion.danchu.domain.mission.dto.response;
 import java.time.LocalDate;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 @Builder
 @Schema(title = "MissionResponse DTO", description = "미션 관련 응답")
 public class MissionResponse {
@@ -0,0 +1,23 @@
+package com.likelion.danchu.domain.mission.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "MissionTodaySnapshotResponse DTO", description = "오늘의 미션 실시간 구독 시작 시점의 전체 상태")
+public class MissionTodaySnapshotResponse {
+
+  @Schema(description = "미션 날짜", example = "2025-08-20")
+  private LocalDate date;
+
+  @Schema(description = "오늘의 미션 목록 (이미 완료한 미션 제외)")
+  private List<MissionResponse> missions;
+
+  @Schema(description = "인기 미션 순위")
+  private List<MissionRankResponse> ranking;
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,9 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "mission")
+@Table(
+    name = "mission",
+    indexes = @Index(name = "idx_mission_date_store", columnList = "date, store_id"))
 public class Mission extends BaseTimeEntity {
 
   @Id
@@ -52,6 +55,12 @@ public class Mission extends BaseTimeEntity {
   @Column(name = "reward_image_url", nullable = true)
   private String rewardImageUrl;
 
+  // 완료한 사용자 수 (완료 기록 시 원자적으로 +1, 집계 쿼리 대신 사용)
+  // 엔티티 변경 감지의 UPDATE 에서는 제외해, 먼저 읽어 둔 값이 원자적 증가분을 덮어쓰지 않도록 함
+  @Builder.Default
+  @Column(name = "completion_count", nullable = false, updatable = false)
+  private long completionCount = 0L;
+
   public void changeDate(LocalDate newDate) {
     this.date = newDate;
   }
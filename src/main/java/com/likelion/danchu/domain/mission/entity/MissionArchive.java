@@ -0,0 +1,64 @@
+package com.likelion.danchu.domain.mission.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 미션 (mission 테이블에서 이동)
+ *
+ * <p>지난 미션을 {@code mission} 테이블에서 빼내 오늘/앞으로의 미션 조회가 작은 테이블만 읽도록 합니다. ID는 원본 {@code mission.id}를 그대로
+ * 사용하므로 완료 이력({@code user_completed_mission.mission_id})과의 연결이 유지됩니다. 행은 스케줄러가 네이티브 쿼리로만 채웁니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "mission_archive",
+    indexes = {
+      @Index(name = "idx_mission_archive_store", columnList = "store_id"),
+      @Index(name = "idx_mission_archive_date", columnList = "date")
+    })
+public class MissionArchive {
+
+  @Id private Long id;
+
+  @Column(name = "store_id")
+  private Long storeId;
+
+  @Column(name = "title", nullable = false, length = 50)
+  private String title;
+
+  @Column(name = "description", nullable = false, length = 100)
+  private String description;
+
+  @Column(name = "reward", nullable = false, length = 100)
+  private String reward;
+
+  @Column(name = "date", nullable = false)
+  private LocalDate date;
+
+  @Column(name = "reward_image_url", nullable = true)
+  private String rewardImageUrl;
+
+  @Column(name = "completion_count", nullable = false)
+  private long completionCount;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  @Column(name = "archived_at", nullable = false)
+  private LocalDateTime archivedAt;
+}
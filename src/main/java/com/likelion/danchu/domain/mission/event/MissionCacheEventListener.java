@@ -0,0 +1,47 @@
+package com.likelion.danchu.domain.mission.event;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.mission.service.MissionCatalogCache;
+import com.likelion.danchu.domain.mission.service.MissionCompletionSet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** 커밋된 변경만 오늘의 미션 캐시(목록/완료 집합)에 반영합니다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionCacheEventListener {
+
+  private final MissionCatalogCache missionCatalogCache;
+  private final MissionCompletionSet missionCompletionSet;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onCatalogChanged(MissionCatalogChangedEvent event) {
+    for (LocalDate date : event.dates()) {
+      try {
+        missionCatalogCache.evict(date);
+      } catch (RuntimeException e) {
+        log.warn("[MissionCatalog] evict failed. date={}", date, e);
+      }
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onMissionCompleted(MissionCompletedEvent event) {
+    try {
+      missionCompletionSet.markCompleted(event.missionDate(), event.userId(), event.missionId());
+    } catch (RuntimeException e) {
+      log.warn(
+          "[MissionCompletionSet] mark failed. userId={}, missionId={}",
+          event.userId(),
+          event.missionId(),
+          e);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.likelion.danchu.domain.mission.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 날짜별 미션 목록이 바뀌었음을 알리는 이벤트 (생성/복제/날짜 변경/가게 삭제)
+ *
+ * @param dates 목록이 바뀐 미션 날짜
+ */
+public record MissionCatalogChangedEvent(List<LocalDate> dates) {
+
+  public static MissionCatalogChangedEvent of(LocalDate... dates) {
+    return new MissionCatalogChangedEvent(List.of(dates));
+  }
+}
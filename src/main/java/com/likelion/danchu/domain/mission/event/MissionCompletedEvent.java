@@ -0,0 +1,14 @@
+package com.likelion.danchu.domain.mission.event;
+
+import java.time.LocalDate;
+
+/**
+ * 미션 완료가 새로 기록되었음을 알리는 이벤트 (중복 완료는 발행되지 않음)
+ *
+ * @param userId 완료한 사용자 ID
+ * @param missionId 완료한 미션 ID
+ * @param storeId 미션을 진행한 가게 ID
+ * @param missionDate 미션 진행 날짜
+ */
+public record MissionCompletedEvent(
+    Long userId, Long missionId, Long storeId, LocalDate missionDate) {}
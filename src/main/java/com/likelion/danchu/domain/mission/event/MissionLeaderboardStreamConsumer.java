@@ -0,0 +1,45 @@
+package com.likelion.danchu.domain.mission.event;
+
+import java.time.LocalDate;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.mission.service.MissionLeaderboardService;
+import com.likelion.danchu.global.event.DomainEventRelay;
+import com.likelion.danchu.infra.stream.DomainEventStream;
+import com.likelion.danchu.infra.stream.DomainEventType;
+import com.likelion.danchu.infra.stream.StreamEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 스트림의 미션 완료를 인기 미션 리더보드에 반영합니다. (소비자 그룹: {@code mission-leaderboard})
+ *
+ * <p>재전달로 인한 중복 반영이나 누락분은 야간 보정({@link
+ * com.likelion.danchu.domain.mission.scheduler.MissionLeaderboardReconcileScheduler})에서 맞춰집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionLeaderboardStreamConsumer {
+
+  static final String GROUP = "mission-leaderboard";
+
+  private final DomainEventStream domainEventStream;
+  private final MissionLeaderboardService missionLeaderboardService;
+
+  @PostConstruct
+  void subscribe() {
+    domainEventStream.subscribe(GROUP, this::handle);
+  }
+
+  void handle(StreamEvent event) {
+    if (event.type() != DomainEventType.MISSION_COMPLETED) {
+      return;
+    }
+    missionLeaderboardService.increment(
+        LocalDate.parse(event.get(DomainEventRelay.MISSION_DATE)),
+        event.getLong(DomainEventRelay.MISSION_ID));
+  }
+}
@@ -22,7 +22,10 @@ public enum MissionErrorCode implements BaseErrorCode {
   POPULAR_MISSION_NOT_FOUND("MISSION_0008", "완료된 미션 기록이 없습니다.", HttpStatus.NOT_FOUND),
   MISSION_DATE_CHANGE_FORBIDDEN(
       "MISSION_0009", "완료 이력이 있는 미션은 날짜를 변경할 수 없습니다.", HttpStatus.CONFLICT),
-  MISSION_STORE_DETACHED("MISSION_0010", "미션이 더 이상 가게와 연결되어 있지 않습니다.", HttpStatus.BAD_REQUEST);
+  MISSION_STORE_DETACHED("MISSION_0010", "미션이 더 이상 가게와 연결되어 있지 않습니다.", HttpStatus.BAD_REQUEST),
+  INVALID_SCHEDULE(
+      "MISSION_0011", "미션 기간이 올바르지 않습니다. (종료일은 시작일 이후, 최대 92일)", HttpStatus.BAD_REQUEST),
+  MISSION_SAVE_FAILED("MISSION_0012", "미션 저장에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
 
   private final String code;
   private final String message;
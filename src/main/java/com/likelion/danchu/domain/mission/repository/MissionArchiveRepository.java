@@ -0,0 +1,39 @@
+package com.likelion.danchu.domain.mission.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.danchu.domain.mission.entity.MissionArchive;
+
+@Repository
+public interface MissionArchiveRepository extends JpaRepository<MissionArchive, Long> {
+
+  // 지정 미션들을 보관 테이블로 복사 (ID 유지)
+  @Modifying
+  @Query(
+      value =
+          """
+              INSERT INTO mission_archive
+                  (id, store_id, title, description, reward, date, reward_image_url,
+                   completion_count, created_at, updated_at, archived_at)
+              SELECT id, store_id, title, description, reward, date, reward_image_url,
+                     completion_count, created_at, updated_at, NOW()
+              FROM mission
+              WHERE id IN (:ids)
+              """,
+      nativeQuery = true)
+  int copyFromMission(@Param("ids") List<Long> ids);
+
+  @Query("select a.rewardImageUrl from MissionArchive a where a.storeId = :storeId")
+  List<String> findRewardImageUrlsByStoreId(@Param("storeId") Long storeId);
+
+  // 해당 가게의 보관 미션 전부 삭제 (가게 삭제 시 연관 정리용)
+  @Modifying
+  @Query("delete from MissionArchive a where a.storeId = :storeId")
+  int deleteByStoreId(@Param("storeId") Long storeId);
+}
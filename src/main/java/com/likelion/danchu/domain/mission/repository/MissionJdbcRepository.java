@@ -0,0 +1,74 @@
+package com.likelion.danchu.domain.mission.repository;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 미션 대량 INSERT 전용 리포지토리
+ *
+ * <p>Mission은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로, 같은 내용의 미션을 여러 날짜에 만들 때는 JDBC 배치로 한 번에
+ * 전송합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MissionJdbcRepository {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO mission
+          (store_id, title, description, reward, date, reward_image_url, completion_count,
+           created_at, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 동일한 내용의 미션을 날짜별로 일괄 저장합니다.
+   *
+   * @return 저장된 행 수
+   */
+  public int batchInsert(
+      Long storeId,
+      String title,
+      String description,
+      String reward,
+      String rewardImageUrl,
+      List<LocalDate> dates) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int[][] results =
+        jdbcTemplate.batchUpdate(
+            INSERT_SQL,
+            dates,
+            BATCH_SIZE,
+            (ps, date) -> {
+              ps.setLong(1, storeId);
+              ps.setString(2, title);
+              ps.setString(3, description);
+              ps.setString(4, reward);
+              ps.setDate(5, Date.valueOf(date));
+              ps.setString(6, rewardImageUrl);
+              ps.setTimestamp(7, now);
+              ps.setTimestamp(8, now);
+            });
+    // 드라이버 배치 재작성 시 행별 결과 대신 SUCCESS_NO_INFO(-2)가 올 수 있어 요청 건수 기준으로 계산
+    int saved = 0;
+    for (int[] batch : results) {
+      for (int count : batch) {
+        saved += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+      }
+    }
+    return saved;
+  }
+}
@@ -2,8 +2,10 @@ package com.likelion.danchu.domain.mission.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +18,20 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
   // 지정한 가게, 날짜, 제목이 모두 일치하는 미션이 존재하는지 확인
   boolean existsByStore_IdAndDateAndTitle(Long storeId, LocalDate date, String title);
 
+  // 지정한 가게+제목으로 이미 미션이 있는 날짜들 (일괄 생성 시 중복 검사를 한 번에 처리)
+  @Query(
+      """
+            select m.date
+            from Mission m
+            where m.store.id = :storeId
+              and m.title = :title
+              and m.date in :dates
+          """)
+  List<LocalDate> findExistingDates(
+      @Param("storeId") Long storeId,
+      @Param("title") String title,
+      @Param("dates") List<LocalDate> dates);
+
   // 오늘 날짜 미션 중 해당 유저가 아직 완료 안한 미션만
   @Query(
       """
@@ -32,55 +48,99 @@ public interface MissionRepository extends JpaRepository<Mission, Long> {
   List<Mission> findTodayNotCompleted(
       @Param("today") LocalDate today, @Param("userId") Long userId);
 
-  // 가장 많이 완료된 오늘의 미션 1건의 ID
+  // 지정 날짜 미션별 완료 사용자 수 (인기 미션 리더보드 복구/보정용, 완료 이력이 있는 미션만)
   @Query(
-      value =
-          """
-              SELECT m.id
-              FROM mission m
-              JOIN user_completed_mission ucm ON ucm.mission_id = m.id
-              WHERE m.date = :today
-              GROUP BY m.id
-              ORDER BY
-                  COUNT(DISTINCT ucm.user_id) DESC,  -- 1순위: 완료한 "유저 수"가 많은 순
-                  m.date DESC                        -- 2순위: 미션 날짜가 최신인 순
-              LIMIT 1;                               -- 최종적으로 위 조건에 맞는 1건만 가져오기
-              """,
-      nativeQuery = true)
-  Long findMostCompletedMissionId(@Param("today") java.time.LocalDate today);
+      """
+            select m.id, m.completionCount
+            from Mission m
+            where m.date = :date
+              and m.completionCount > 0
+          """)
+  List<Object[]> findCompletionCountsByDate(@Param("date") LocalDate date);
+
+  // 완료 수 +1 (엔티티 로딩 없이 원자적으로 증가)
+  @Modifying
+  @Query("update Mission m set m.completionCount = m.completionCount + 1 where m.id = :missionId")
+  int increaseCompletionCount(@Param("missionId") Long missionId);
 
   // 동일 가게/제목/날짜 조합과 같은 다른 미션 존재 여부 확인(자기 자신 id 제외) — 날짜 변경 시 중복 검사용
   boolean existsByStore_IdAndDateAndTitleAndIdNot(
       Long storeId, LocalDate date, String title, Long id);
 
-  // 특정 미션의 완료 이력(조인 테이블) 건수를 반환 (0보다 크면 완료 이력 존재)
+  // 진행 중/예정 미션과 가게를 한 번에 로드 (추천 후보 풀 적재용)
+  @Query("SELECT m FROM Mission m JOIN FETCH m.store WHERE m.date BETWEEN :from AND :to")
+  List<Mission> findAllWithStoreBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  // 지정 날짜의 미션과 가게를 한 번에 로드 (오늘의 미션 목록 캐시 적재용)
+  @Query("SELECT m FROM Mission m JOIN FETCH m.store WHERE m.date = :date ORDER BY m.id")
+  List<Mission> findAllWithStoreByDate(@Param("date") LocalDate date);
+
+  // 미션 단건과 가게를 한 번에 로드 (가게 연결이 끊긴 미션도 조회되도록 LEFT JOIN)
+  @Query("SELECT m FROM Mission m LEFT JOIN FETCH m.store WHERE m.id = :id")
+  Optional<Mission> findWithStoreById(@Param("id") Long id);
+
+  // 지정 ID의 미션과 가게를 한 번에 로드 (N+1 방지)
+  @Query("SELECT m FROM Mission m JOIN FETCH m.store WHERE m.id IN :ids")
+  List<Mission> findAllWithStoreByIdIn(@Param("ids") List<Long> ids);
+
+  @Query("select m.id from Mission m where m.store.id = :storeId")
+  List<Long> findIdsByStoreId(@Param("storeId") Long storeId);
+
+  // 해당 가게 미션들의 날짜 중 지정 날짜 이후 것 (가게 삭제 시 날짜별 캐시 무효화용)
+  @Query("select distinct m.date from Mission m where m.store.id = :storeId and m.date >= :from")
+  List<LocalDate> findDatesByStoreIdFrom(
+      @Param("storeId") Long storeId, @Param("from") LocalDate from);
+
+  @Query("select m.rewardImageUrl from Mission m where m.id in :ids")
+  List<String> findRewardImageUrlsByIds(@Param("ids") List<Long> ids);
+
+  // 보관 대상: 기준일 이전 미션 ID (idx_mission_date_store 인덱스 범위 조회)
   @Query(
-      value = "SELECT COUNT(*) FROM user_completed_mission WHERE mission_id = :missionId",
+      value = "SELECT id FROM mission WHERE date < :before ORDER BY date, id LIMIT :limit",
       nativeQuery = true)
-  long countCompletionsByMissionId(@Param("missionId") Long missionId);
-
-  // 미션과 가게를 한 번에 로드 (N+1 방지)
-  @Query("SELECT m FROM Mission m JOIN FETCH m.store")
-  List<Mission> findAllWithStore();
+  List<Long> findIdsBefore(@Param("before") LocalDate before, @Param("limit") int limit);
 
-  // 특정 미션 ID 목록에 대해 각 미션의 완료한 사용자 수를 집계하여 반환
+  // 사용자 완료 미션의 가게별 참여 횟수 (보관된 미션 포함) → [storeId, count]
   @Query(
       value =
           """
-              SELECT m.id AS missionId, COUNT(ucm.user_id) AS cnt
-              FROM mission m
-              LEFT JOIN user_completed_mission ucm ON ucm.mission_id = m.id
-              WHERE m.id IN (:missionIds)
-              GROUP BY m.id
+              SELECT t.store_id, COUNT(*)
+              FROM (
+                  SELECT m.store_id
+                  FROM user_completed_mission ucm
+                  JOIN mission m ON m.id = ucm.mission_id
+                  WHERE ucm.user_id = :userId AND m.store_id IS NOT NULL
+                  UNION ALL
+                  SELECT a.store_id
+                  FROM user_completed_mission ucm
+                  JOIN mission_archive a ON a.id = ucm.mission_id
+                  WHERE ucm.user_id = :userId AND a.store_id IS NOT NULL
+              ) t
+              GROUP BY t.store_id
               """,
       nativeQuery = true)
-  List<Object[]> findCompleteCountsByMissionIds(@Param("missionIds") List<Long> missionIds);
+  List<Object[]> countCompletedByStoreForUser(@Param("userId") Long userId);
 
-  @Query("select m.id from Mission m where m.store.id = :storeId")
-  List<Long> findIdsByStoreId(@Param("storeId") Long storeId);
-
-  @Query("select m.rewardImageUrl from Mission m where m.id in :ids")
-  List<String> findRewardImageUrlsByIds(@Param("ids") List<Long> ids);
+  // 여러 사용자의 가게별 미션 참여 횟수 (보관된 미션 포함, 추천 배치용) → [userId, storeId, count]
+  @Query(
+      value =
+          """
+              SELECT t.user_id, t.store_id, COUNT(*)
+              FROM (
+                  SELECT ucm.user_id, m.store_id
+                  FROM user_completed_mission ucm
+                  JOIN mission m ON m.id = ucm.mission_id
+                  WHERE ucm.user_id IN (:userIds) AND m.store_id IS NOT NULL
+                  UNION ALL
+                  SELECT ucm.user_id, a.store_id
+                  FROM user_completed_mission ucm
+                  JOIN mission_archive a ON a.id = ucm.mission_id
+                  WHERE ucm.user_id IN (:userIds) AND a.store_id IS NOT NULL
+              ) t
+              GROUP BY t.user_id, t.store_id
+              """,
+      nativeQuery = true)
+  List<Object[]> countCompletedByStoreForUsers(@Param("userIds") List<Long> userIds);
 
   // 해당 가게의 미션 전부 삭제 (가게 삭제 시 연관 정리용)
   void deleteByStore_Id(Long storeId);
@@ -0,0 +1,70 @@
+package com.likelion.danchu.domain.mission.scheduler;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.mission.service.MissionArchiveService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 미션 보관 스케줄러
+ *
+ * <p>보관 기간이 지난 미션을 묶음 단위로 {@code mission_archive} 로 옮깁니다. 묶음마다 트랜잭션을 따로 커밋하고 묶음 사이에 잠시 쉬어 긴 락을 잡지
+ * 않습니다. 인기 미션 보정(전날/오늘) 대상이 빠지지 않도록 보관 기간은 최소 7일입니다.
+ *
+ * <p>메트릭: {@code mission.archive.rows}(옮긴 건수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionArchiveScheduler {
+
+  private static final int MIN_RETENTION_DAYS = 7;
+
+  private final MissionArchiveService missionArchiveService;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${mission.archive.retention-days:30}")
+  private int retentionDays;
+
+  @Value("${mission.archive.batch-size:500}")
+  private int batchSize;
+
+  @Value("${mission.archive.pause-millis:200}")
+  private long pauseMillis;
+
+  @Scheduled(cron = "${mission.archive.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+  public void archivePastMissions() {
+    LocalDate before =
+        LocalDate.now(ZoneId.of("Asia/Seoul"))
+            .minusDays(Math.max(retentionDays, MIN_RETENTION_DAYS));
+
+    long total = 0L;
+    try {
+      while (true) {
+        int moved = missionArchiveService.archiveChunk(before, batchSize);
+        total += moved;
+        meterRegistry.counter("mission.archive.rows").increment(moved);
+        if (moved < batchSize) {
+          break;
+        }
+
+        // 쓰로틀링: 다음 묶음 전에 잠시 대기
+        Thread.sleep(pauseMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.error("[MissionArchive] stopped. before={}, moved={}", before, total, e);
+    } finally {
+      log.info("[MissionArchive] before={}, moved={}", before, total);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.likelion.danchu.domain.mission.scheduler;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.mission.service.MissionLeaderboardService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 미션 리더보드 야간 보정
+ *
+ * <p>Redis 반영 실패/유실로 어긋난 점수를 MySQL 미션별 완료 수 기준으로 다시 맞춥니다. 마감된 전날과 진행 중인 오늘 리더보드를 대상으로 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionLeaderboardReconcileScheduler {
+
+  private final MissionLeaderboardService missionLeaderboardService;
+
+  @Scheduled(cron = "${mission.leaderboard.reconcile-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+  public void reconcile() {
+    LocalDate todayKST = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    for (LocalDate date : new LocalDate[] {todayKST.minusDays(1), todayKST}) {
+      try {
+        int size = missionLeaderboardService.rebuild(date).size();
+        log.info("[MissionLeaderboard] reconciled. date={}, missions={}", date, size);
+      } catch (RuntimeException e) {
+        log.error("[MissionLeaderboard] reconcile failed. date={}", date, e);
+      }
+    }
+  }
+}
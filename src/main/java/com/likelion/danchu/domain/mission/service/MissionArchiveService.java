@@ -0,0 +1,40 @@
+package com.likelion.danchu.domain.mission.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.danchu.domain.mission.repository.MissionArchiveRepository;
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MissionArchiveService {
+
+  private final MissionRepository missionRepository;
+  private final MissionArchiveRepository missionArchiveRepository;
+
+  /**
+   * 기준일 이전 미션 한 묶음을 보관 테이블로 옮깁니다. (복사 + 삭제를 한 트랜잭션으로 처리)
+   *
+   * @param before 이 날짜보다 이전 미션이 대상 (미포함)
+   * @param limit 한 번에 옮길 최대 건수
+   * @return 옮긴 건수
+   */
+  public int archiveChunk(LocalDate before, int limit) {
+    List<Long> ids = missionRepository.findIdsBefore(before, limit);
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    missionArchiveRepository.copyFromMission(ids);
+    missionRepository.deleteAllByIdInBatch(ids);
+    return ids.size();
+  }
+}
@@ -0,0 +1,75 @@
+package com.likelion.danchu.domain.mission.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.danchu.domain.mission.dto.response.MissionResponse;
+import com.likelion.danchu.domain.mission.mapper.MissionMapper;
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 날짜별 미션 목록 캐시 (Redis, JSON)
+ *
+ * <p>키: {@code mission:catalog:{yyyy-MM-dd}}. 같은 날짜의 미션 목록은 모든 사용자에게 동일하므로 하루 한 번(또는 변경 후 한 번)만
+ * DB에서 읽습니다. 미션 생성/복제/날짜 변경/가게 삭제가 커밋되면 해당 날짜 키를 지우고, 삭제가 누락되더라도 TTL이 지나면 다시 적재됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionCatalogCache {
+
+  private static final String KEY_PREFIX = "mission:catalog:";
+  private static final TypeReference<List<MissionResponse>> CATALOG_TYPE = new TypeReference<>() {};
+
+  private final RedisUtil redisUtil;
+  private final ObjectMapper objectMapper;
+  private final MissionRepository missionRepository;
+  private final MissionMapper missionMapper;
+
+  @Value("${mission.catalog.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  /**
+   * 날짜별 미션 목록을 조회합니다. 캐시에 없으면 DB에서 읽어 적재합니다.
+   *
+   * @param date 미션 날짜
+   * @return 해당 날짜의 미션 목록 (가게와 연결된 미션만)
+   */
+  public List<MissionResponse> get(LocalDate date) {
+    String key = KEY_PREFIX + date;
+    String cached = redisUtil.getData(key);
+    if (cached != null) {
+      try {
+        return objectMapper.readValue(cached, CATALOG_TYPE);
+      } catch (JsonProcessingException e) {
+        log.warn("[MissionCatalog] broken cache entry, reloading. key={}", key, e);
+      }
+    }
+
+    List<MissionResponse> catalog =
+        missionRepository.findAllWithStoreByDate(date).stream()
+            .map(missionMapper::toResponse)
+            .toList();
+    try {
+      redisUtil.setData(key, objectMapper.writeValueAsString(catalog), ttlSeconds);
+    } catch (JsonProcessingException e) {
+      log.warn("[MissionCatalog] serialize failed. key={}", key, e);
+    }
+    return catalog;
+  }
+
+  /** 해당 날짜 목록 캐시 삭제 */
+  public void evict(LocalDate date) {
+    redisUtil.deleteData(KEY_PREFIX + date);
+  }
+}
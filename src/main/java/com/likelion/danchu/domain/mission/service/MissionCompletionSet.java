@@ -0,0 +1,79 @@
+package com.likelion.danchu.domain.mission.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.user.repository.UserRepository;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별·날짜별 미션 완료 집합 (Redis SET)
+ *
+ * <p>키: {@code mission:completed:{yyyy-MM-dd}:{userId}}, 멤버: 완료한 미션 ID. 하루에 완료하는 미션은 몇 개뿐이라 키 크기는
+ * 미션 ID 범위와 무관하게 완료 건수에 비례합니다. {@value #HYDRATED_MEMBER} 멤버는 "DB에서 적재 완료" 표시이며, 표시가 없으면 그 날짜의 완료
+ * 이력을 DB에서 한 번 읽어 채웁니다. 완료 이벤트는 적재 여부와 관계없이 멤버를 추가하므로, 적재와 동시에 완료가 들어와도 누락되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionCompletionSet {
+
+  private static final String KEY_PREFIX = "mission:completed:";
+  static final String HYDRATED_MEMBER = "hydrated";
+  private static final long TTL_SECONDS = 2 * 24 * 60 * 60;
+
+  private final RedisUtil redisUtil;
+  private final UserRepository userRepository;
+
+  /**
+   * 주어진 미션 중 사용자가 해당 날짜에 완료한 미션 ID를 반환합니다.
+   *
+   * @param date 미션 날짜
+   * @param userId 사용자 ID
+   * @param missionIds 확인할 미션 ID 목록
+   * @return 완료한 미션 ID 집합
+   */
+  public Set<Long> findCompleted(LocalDate date, Long userId, List<Long> missionIds) {
+    if (missionIds.isEmpty()) {
+      return Set.of();
+    }
+    String key = key(date, userId);
+
+    Set<String> members = redisUtil.getSetMembers(key);
+    Set<Long> completed = new HashSet<>();
+    if (!members.contains(HYDRATED_MEMBER)) {
+      List<Long> loaded = userRepository.findCompletedMissionIdsByDate(userId, date);
+      List<String> hydrate = new ArrayList<>(loaded.size() + 1);
+      loaded.forEach(id -> hydrate.add(String.valueOf(id)));
+      hydrate.add(HYDRATED_MEMBER);
+      redisUtil.addToSet(key, hydrate);
+      redisUtil.expire(key, TTL_SECONDS);
+      completed.addAll(loaded);
+    }
+    for (String member : members) {
+      if (!HYDRATED_MEMBER.equals(member)) {
+        completed.add(Long.valueOf(member));
+      }
+    }
+
+    completed.retainAll(new HashSet<>(missionIds));
+    return completed;
+  }
+
+  /** 완료 1건 반영 */
+  public void markCompleted(LocalDate date, Long userId, Long missionId) {
+    String key = key(date, userId);
+    redisUtil.addToSet(key, List.of(String.valueOf(missionId)));
+    redisUtil.expire(key, TTL_SECONDS);
+  }
+
+  private String key(LocalDate date, Long userId) {
+    return KEY_PREFIX + date + ":" + userId;
+  }
+}
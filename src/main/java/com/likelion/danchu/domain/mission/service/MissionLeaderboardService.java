@@ -0,0 +1,168 @@
+package com.likelion.danchu.domain.mission.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 날짜별 인기 미션 리더보드 (Redis ZSET)
+ *
+ * <p>키: {@code mission:popular:{yyyy-MM-dd}}, 멤버: 미션 ID, 점수: 완료한 사용자 수. 완료가 커밋될 때마다 점수를 1 올리고, 조회는
+ * ZREVRANGE로 상위 N개만 읽습니다. 키가 없거나(만료/유실) Redis 장애 시에는 MySQL의 미션별 완료 수({@code completion_count})를
+ * 읽습니다.
+ *
+ * <p>DB로 채운 키에는 점수 -1 의 {@value #HYDRATED_MEMBER} 멤버를 함께 둡니다. 완료 반영은 이 표시가 있을 때만 점수를 올리고(없으면 DB로
+ * 재구성), 완료 이력이 없는 날도 표시만 담긴 키를 남겨 조회마다 DB 집계를 다시 하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MissionLeaderboardService {
+
+  private static final String KEY_PREFIX = "mission:popular:";
+  private static final long TTL_SECONDS = 3 * 24 * 60 * 60;
+  static final String HYDRATED_MEMBER = "hydrated";
+  private static final double HYDRATED_SCORE = -1;
+
+  // 적재 표시가 있을 때만 ZINCRBY (없는 키에 한 명짜리 리더보드가 생기지 않도록), 반영 여부 반환
+  private static final RedisScript<Long> INCREMENT_IF_HYDRATED =
+      new DefaultRedisScript<>(
+          """
+          if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+            redis.call('ZINCRBY', KEYS[1], 1, ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+          end
+          return 0
+          """,
+          Long.class);
+
+  private final RedisUtil redisUtil;
+  private final MissionRepository missionRepository;
+
+  /** 리더보드 항목 (미션 ID, 완료한 사용자 수) */
+  public record Entry(Long missionId, long completedCount) {}
+
+  /** 완료 1건 반영 (키가 적재되어 있지 않으면 커밋된 완료까지 포함해 DB로 재구성) */
+  public void increment(LocalDate date, Long missionId) {
+    Long applied =
+        redisUtil.execute(
+            INCREMENT_IF_HYDRATED,
+            List.of(key(date)),
+            HYDRATED_MEMBER,
+            String.valueOf(missionId),
+            String.valueOf(TTL_SECONDS));
+    if (applied == null || applied == 0L) {
+      rebuild(date);
+    }
+  }
+
+  /**
+   * 완료 수 상위 N개 미션을 조회합니다.
+   *
+   * @param date 미션 날짜
+   * @param size 조회 개수
+   * @return 완료 수 내림차순 목록 (완료 이력이 없으면 빈 리스트)
+   */
+  public List<Entry> getTop(LocalDate date, int size) {
+    List<Entry> cached;
+    try {
+      cached = readTop(date, size);
+    } catch (RuntimeException e) {
+      log.warn("[MissionLeaderboard] read failed, falling back to DB. date={}", date, e);
+      return head(loadFromDb(date), size);
+    }
+    if (cached != null) {
+      return cached;
+    }
+    // 키가 없으면(적재 표시 없음) DB 집계로 복구 후 반환
+    return head(rebuild(date), size);
+  }
+
+  /**
+   * MySQL 미션별 완료 수로 해당 날짜 리더보드를 다시 만듭니다.
+   *
+   * <p>임시 키에 전체를 채운 뒤 RENAME으로 교체하므로, 재구성 중에도 조회는 이전 값을 읽습니다. 재구성 도중 커밋된 완료 일부는 누락될 수 있으나 다음 재구성(야간
+   * 보정) 때 맞춰집니다.
+   *
+   * @return DB 기준 완료 수 내림차순 목록
+   */
+  public List<Entry> rebuild(LocalDate date) {
+    List<Entry> entries = loadFromDb(date);
+    String key = key(date);
+    try {
+      Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+      tuples.add(new DefaultTypedTuple<>(HYDRATED_MEMBER, HYDRATED_SCORE));
+      for (Entry entry : entries) {
+        tuples.add(
+            new DefaultTypedTuple<>(
+                String.valueOf(entry.missionId()), (double) entry.completedCount()));
+      }
+      String tempKey = key + ":rebuild:" + UUID.randomUUID();
+      redisUtil.addAllToSortedSet(tempKey, tuples);
+      redisUtil.expire(tempKey, TTL_SECONDS); // RENAME 시 TTL도 함께 이전됨
+      redisUtil.rename(tempKey, key);
+    } catch (RuntimeException e) {
+      log.warn("[MissionLeaderboard] rebuild failed. date={}", date, e);
+    }
+    return entries;
+  }
+
+  /** 상위 N개 (적재 표시가 없으면 null) */
+  private List<Entry> readTop(LocalDate date, int size) {
+    // 적재 표시는 점수가 -1 이라 항상 맨 뒤에 있으므로 하나 더 읽어 함께 확인
+    Set<TypedTuple<String>> tuples = redisUtil.reverseRangeWithScores(key(date), 0, size);
+    if (tuples == null || tuples.isEmpty()) {
+      return null;
+    }
+    boolean hydrated = false;
+    List<Entry> entries = new ArrayList<>(tuples.size());
+    for (TypedTuple<String> tuple : tuples) {
+      if (HYDRATED_MEMBER.equals(tuple.getValue())) {
+        hydrated = true;
+        continue;
+      }
+      long score = tuple.getScore() == null ? 0L : tuple.getScore().longValue();
+      entries.add(new Entry(Long.valueOf(tuple.getValue()), score));
+    }
+    // 상위 N+1 개가 모두 미션이면 표시는 더 뒤에 있음 (표시 없이 N+1 개가 쌓이는 경로는 없음)
+    if (!hydrated && entries.size() <= size) {
+      return null;
+    }
+    return head(entries, size);
+  }
+
+  private List<Entry> loadFromDb(LocalDate date) {
+    return missionRepository.findCompletionCountsByDate(date).stream()
+        .map(row -> new Entry(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+        .sorted(
+            Comparator.comparingLong(Entry::completedCount)
+                .thenComparing(Entry::missionId)
+                .reversed())
+        .toList();
+  }
+
+  private List<Entry> head(List<Entry> entries, int size) {
+    return entries.size() <= size ? entries : entries.subList(0, size);
+  }
+
+  private String key(LocalDate date) {
+    return KEY_PREFIX + date;
+  }
+}
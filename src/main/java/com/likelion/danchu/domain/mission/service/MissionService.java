@@ -1,25 +1,39 @@
 package com.likelion.danchu.domain.mission.service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.likelion.danchu.domain.coupon.dto.response.CouponResponse;
 import com.likelion.danchu.domain.coupon.service.CouponService;
 import com.likelion.danchu.domain.mission.dto.request.MissionRequest;
+import com.likelion.danchu.domain.mission.dto.response.MissionBulkCreateResponse;
+import com.likelion.danchu.domain.mission.dto.response.MissionRankResponse;
 import com.likelion.danchu.domain.mission.dto.response.MissionResponse;
+import com.likelion.danchu.domain.mission.dto.response.MissionTodaySnapshotResponse;
 import com.likelion.danchu.domain.mission.entity.Mission;
+import com.likelion.danchu.domain.mission.event.MissionCatalogChangedEvent;
+import com.likelion.danchu.domain.mission.event.MissionCompletedEvent;
 import com.likelion.danchu.domain.mission.exception.MissionErrorCode;
 import com.likelion.danchu.domain.mission.mapper.MissionMapper;
+import com.likelion.danchu.domain.mission.repository.MissionJdbcRepository;
 import com.likelion.danchu.domain.mission.repository.MissionRepository;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.repository.StoreRepository;
-import com.likelion.danchu.domain.user.entity.User;
 import com.likelion.danchu.domain.user.exception.UserErrorCode;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
@@ -28,7 +42,9 @@ import com.likelion.danchu.infra.s3.entity.PathName;
 import com.likelion.danchu.infra.s3.service.S3Service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -37,9 +53,23 @@ public class MissionService {
   private final StoreRepository storeRepository;
   private final S3Service s3Service;
   private final MissionRepository missionRepository;
+  private final MissionJdbcRepository missionJdbcRepository;
   private final MissionMapper missionMapper;
   private final UserRepository userRepository;
   private final CouponService couponService;
+  private final MissionLeaderboardService missionLeaderboardService;
+  private final MissionCatalogCache missionCatalogCache;
+  private final MissionCompletionSet missionCompletionSet;
+  private final ApplicationEventPublisher eventPublisher;
+
+  // 인기 미션 순위 최대 조회 개수
+  private static final int MAX_RANKING_SIZE = 50;
+
+  // 실시간 구독 스냅샷의 인기 순위 개수
+  private static final int STREAM_RANKING_SIZE = 10;
+
+  // 일괄 생성 최대 기간(일)
+  private static final int MAX_SCHEDULE_DAYS = 92;
 
   /**
    * 미션 생성 - 가게 존재 여부 검증
@@ -76,12 +106,106 @@ public class MissionService {
     }
     Mission saved =
         missionRepository.save(missionMapper.toEntity(store, missionRequest, rewardImageUrl));
+    eventPublisher.publishEvent(MissionCatalogChangedEvent.of(saved.getDate()));
     return missionMapper.toResponse(saved);
   }
 
+  /**
+   * 미션 일괄 생성 - 같은 내용의 미션을 기간 내 지정 요일마다 생성
+   *
+   * <p>처리 순서:
+   *
+   * <ul>
+   *   <li>기간/요일로 대상 날짜 목록 계산
+   *   <li>IN 쿼리 한 번으로 이미 같은 제목의 미션이 있는 날짜를 찾아 제외
+   *   <li>보상 이미지는 한 번만 업로드해 모든 미션이 같은 URL을 공유
+   *   <li>JDBC 배치로 한 번에 INSERT
+   * </ul>
+   *
+   * @param request 미션 템플릿 + 기간/반복 요일
+   * @param imageFile 보상 이미지 파일(선택)
+   * @return 생성/건너뛴 날짜 목록
+   * @throws CustomException STORE_NOT_FOUND, INVALID_SCHEDULE, DUPLICATE_MISSION(모든 날짜가 중복),
+   *     REWARD_UPLOAD_FAILED, MISSION_SAVE_FAILED
+   */
+  public MissionBulkCreateResponse createMissions(
+      MissionRequest.BulkCreateRequest request, MultipartFile imageFile) {
+
+    // 가게 존재 여부 확인
+    if (!storeRepository.existsById(request.getStoreId())) {
+      throw new CustomException(MissionErrorCode.STORE_NOT_FOUND);
+    }
+
+    // 대상 날짜 계산
+    List<LocalDate> dates = expandSchedule(request);
+
+    // 중복 날짜 제외 (IN 쿼리 1회)
+    Set<LocalDate> existing =
+        new HashSet<>(
+            missionRepository.findExistingDates(request.getStoreId(), request.getTitle(), dates));
+    List<LocalDate> targets = dates.stream().filter(d -> !existing.contains(d)).toList();
+    if (targets.isEmpty()) {
+      throw new CustomException(MissionErrorCode.DUPLICATE_MISSION);
+    }
+
+    // (선택) 이미지 업로드 - 1회
+    String rewardImageUrl = null;
+    if (imageFile != null && !imageFile.isEmpty()) {
+      try {
+        rewardImageUrl = s3Service.uploadImage(PathName.REWARD, imageFile).getImageUrl();
+      } catch (Exception e) {
+        throw new CustomException(MissionErrorCode.REWARD_UPLOAD_FAILED);
+      }
+    }
+
+    // JDBC 배치 INSERT
+    try {
+      missionJdbcRepository.batchInsert(
+          request.getStoreId(),
+          request.getTitle(),
+          request.getDescription(),
+          request.getReward(),
+          rewardImageUrl,
+          targets);
+    } catch (DataAccessException e) {
+      throw new CustomException(MissionErrorCode.MISSION_SAVE_FAILED);
+    }
+
+    eventPublisher.publishEvent(new MissionCatalogChangedEvent(targets));
+    return MissionBulkCreateResponse.builder()
+        .storeId(request.getStoreId())
+        .title(request.getTitle())
+        .rewardImageUrl(rewardImageUrl)
+        .createdDates(targets)
+        .skippedDates(dates.stream().filter(existing::contains).toList())
+        .build();
+  }
+
+  /** 시작~종료일(포함) 중 반복 요일에 해당하는 날짜 목록 (요일 미지정 시 매일) */
+  private List<LocalDate> expandSchedule(MissionRequest.BulkCreateRequest request) {
+    LocalDate start = request.getStartDate();
+    LocalDate end = request.getEndDate();
+    if (end.isBefore(start) || start.plusDays(MAX_SCHEDULE_DAYS - 1).isBefore(end)) {
+      throw new CustomException(MissionErrorCode.INVALID_SCHEDULE);
+    }
+
+    Set<DayOfWeek> days = request.getDaysOfWeek();
+    List<LocalDate> dates =
+        start
+            .datesUntil(end.plusDays(1))
+            .filter(d -> days == null || days.isEmpty() || days.contains(d.getDayOfWeek()))
+            .toList();
+    if (dates.isEmpty()) {
+      throw new CustomException(MissionErrorCode.INVALID_SCHEDULE);
+    }
+    return dates;
+  }
+
   /**
    * 오늘 날짜의 미션 중에서 로그인 사용자가 아직 완료하지 않은 미션만 조회
    *
+   * <p>날짜별로 캐시된 오늘의 미션 목록을 사용자 완료 집합으로 걸러 반환합니다. Redis 장애 시에는 DB에서 미완료 미션을 직접 조회합니다.
+   *
    * @param userId 로그인한 사용자 ID
    * @return 오늘의 미완료 미션 목록을 {@link MissionResponse} 리스트로 반환
    */
@@ -89,6 +213,17 @@ public class MissionService {
     // Asia/Seoul 타임존 기준으로 오늘 날짜 계산
     LocalDate todayKST = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
+    try {
+      List<MissionResponse> catalog = missionCatalogCache.get(todayKST);
+      Set<Long> completed =
+          missionCompletionSet.findCompleted(
+              todayKST, userId, catalog.stream().map(MissionResponse::getId).toList());
+      return catalog.stream().filter(m -> !completed.contains(m.getId())).toList();
+    } catch (DataAccessException e) {
+      // Redis 연결 실패/타임아웃 등
+      log.warn("[TodayMissions] cache unavailable, falling back to DB. userId={}", userId, e);
+    }
+
     // 네이티브 쿼리: user_completed_mission 조인테이블을 통해 미완료만 필터링
     return missionRepository.findTodayNotCompleted(todayKST, userId).stream()
         .map(missionMapper::toResponse)
@@ -110,21 +245,22 @@ public class MissionService {
    */
   public void completeMission(Long userId, Long missionId) {
     // (옵션) 미션 존재 검증
-    missionRepository
-        .findById(missionId)
-        .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
-
-    // 사용자 조회
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-
-    // 완료 미션 ID 추가 (이미 있으면 false)
-    boolean added = user.addCompletedMissionId(missionId);
-    if (!added) {
-      // 이미 완료한 미션이면 아무 작업도 하지 않음 (멱등성 보장)
-      return;
+    Mission mission =
+        missionRepository
+            .findById(missionId)
+            .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
+
+    // 사용자 존재 검증
+    if (!userRepository.existsById(userId)) {
+      throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+    }
+
+    // 완료 미션 ID 추가 (이미 완료한 미션이면 무시 → 멱등성 보장)
+    if (userRepository.insertCompletedMissionIfAbsent(userId, missionId) > 0) {
+      missionRepository.increaseCompletionCount(missionId);
+      eventPublisher.publishEvent(
+          new MissionCompletedEvent(
+              userId, missionId, mission.getStore().getId(), mission.getDate()));
     }
   }
 
@@ -150,11 +286,13 @@ public class MissionService {
    * <p>처리 순서:
    *
    * <ul>
-   *   <li>인증코드로 가게 조회
-   *   <li>미션의 가게와 일치 검증
-   *   <li>쿠폰 발급 후 완료 이력/카운트 기록
+   *   <li>미션+가게를 한 번에 조회
+   *   <li>미션 가게의 인증코드와 비교 (불일치 시에만 인증코드 존재 여부를 조회해 오류 구분)
+   *   <li>완료 이력/카운트 기록 후, 조회한 미션과 사용자 참조(프록시)로 쿠폰 발급
    * </ul>
    *
+   * <p>정상 흐름의 쿼리: 미션 조회 1 + 완료 기록 INSERT 1 + 카운트 UPDATE 2 + 쿠폰 INSERT 1
+   *
    * @param missionId 미션 ID
    * @param authCode 가게 인증코드
    * @return 지급된 쿠폰 응답
@@ -162,56 +300,51 @@ public class MissionService {
   public CouponResponse completeMissionWithAuthCode(Long missionId, String authCode) {
     Long userId = SecurityUtil.getCurrentUserId();
 
-    // 미션 조회
+    // 미션 + 가게 조회
     Mission mission =
         missionRepository
-            .findById(missionId)
+            .findWithStoreById(missionId)
             .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
 
     // 가게 연결 끊긴 미션 방어
-    if (mission.getStore() == null) {
+    Store store = mission.getStore();
+    if (store == null) {
       throw new CustomException(MissionErrorCode.MISSION_STORE_DETACHED);
     }
 
-    // 인증코드 → 가게 조회
-    Store authStore =
-        storeRepository
-            .findByAuthCode(authCode)
-            .orElseThrow(() -> new CustomException(MissionErrorCode.INVALID_AUTH_CODE));
-
-    // 미션 가게 일치 검증
-    if (!mission.getStore().getId().equals(authStore.getId())) {
+    // 미션 가게 인증코드 일치 검증 (불일치일 때만 없는 코드인지 다른 가게 코드인지 구분)
+    if (!store.getAuthCode().equals(authCode)) {
+      if (!storeRepository.existsByAuthCode(authCode)) {
+        throw new CustomException(MissionErrorCode.INVALID_AUTH_CODE);
+      }
       throw new CustomException(MissionErrorCode.MISSION_STORE_MISMATCH);
     }
 
-    // 완료 기록 (중복이면 예외)
-    markCompletedOrThrow(userId, missionId);
+    // 완료 기록 (중복이면 예외, 사용자 미존재도 여기서 걸러짐)
+    markCompletedOrThrow(userId, mission);
 
-    // 쿠폰 발급
-    CouponResponse coupon = couponService.createCouponFromMission(missionId, userId);
-
-    return coupon;
+    // 쿠폰 발급 (사용자는 존재가 확인되었으므로 조회 없이 참조만 사용)
+    return couponService.createCouponFromMission(userRepository.getReferenceById(userId), mission);
   }
 
-  /** 같은 유저가 같은 미션을 중복 완료하지 못하게 막기 */
-  private void markCompletedOrThrow(Long userId, Long missionId) {
-    // 사용자 조회
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-
-    // 미션 존재 검증
-    missionRepository
-        .findById(missionId)
-        .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
-
-    // 이미 있으면 false → 중복 완료
-    boolean added = user.addCompletedMissionId(missionId);
-    if (!added) {
+  /**
+   * 같은 유저가 같은 미션을 중복 완료하지 못하게 막기
+   *
+   * <p>완료 이력 컬렉션을 로딩하지 않고 INSERT IGNORE 한 번으로 기록/중복 판별을 동시에 처리합니다. (미션 존재는 호출 측에서 검증)
+   */
+  private void markCompletedOrThrow(Long userId, Mission mission) {
+    // 이미 있으면 0 → 중복 완료 (IGNORE 특성상 사용자 미존재도 0이므로 구분)
+    if (userRepository.insertCompletedMissionIfAbsent(userId, mission.getId()) == 0) {
+      if (!userRepository.existsById(userId)) {
+        throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+      }
       throw new CustomException(MissionErrorCode.ALREADY_COMPLETED);
     }
-    user.increaseCompletedMissionCount();
+    userRepository.increaseCompletedMissionCount(userId);
+    missionRepository.increaseCompletionCount(mission.getId());
+    eventPublisher.publishEvent(
+        new MissionCompletedEvent(
+            userId, mission.getId(), mission.getStore().getId(), mission.getDate()));
   }
 
   /**
@@ -220,26 +353,77 @@ public class MissionService {
    * <p>동작 순서:
    *
    * <ul>
-   *   <li>완료 이력 테이블(user_completed_mission)에서 집계하여 가장 많이 완료된 미션 ID 조회
-   *   <li>해당 ID의 미션 상세 정보를 조회
-   *   <li>미션이 존재하지 않거나 완료 이력이 없으면 예외 발생
+   *   <li>오늘 날짜 리더보드(Redis ZSET)에서 완료 수 상위 미션 조회 (키가 없으면 MySQL 집계로 복구)
+   *   <li>해당 미션의 상세 정보를 조회 (그사이 삭제된 미션은 건너뜀)
+   *   <li>완료 이력이 없으면 예외 발생
    * </ul>
    *
    * @return 가장 인기 있는 미션의 상세 응답
-   * @throws CustomException 완료 이력이 없거나 미션이 존재하지 않는 경우
+   * @throws CustomException 완료 이력이 없는 경우
    */
   public MissionResponse getPopularMission() {
-    java.time.LocalDate todayKST = java.time.LocalDate.now(java.time.ZoneId.of("Asia/Seoul"));
-
-    Long topId = missionRepository.findMostCompletedMissionId(todayKST);
-    if (topId == null) {
+    List<MissionRankResponse> ranking = getPopularMissionRanking(1);
+    if (ranking.isEmpty()) {
       throw new CustomException(MissionErrorCode.POPULAR_MISSION_NOT_FOUND);
     }
-    Mission mission =
+    return ranking.get(0).getMission();
+  }
+
+  /**
+   * 오늘의 미션 실시간 구독 시작 시점의 상태를 조회합니다. (미션 목록 + 인기 순위 상위 {@value #STREAM_RANKING_SIZE}개)
+   *
+   * @param userId 구독하는 사용자 ID
+   * @return 오늘의 미션 스냅샷
+   */
+  public MissionTodaySnapshotResponse getTodaySnapshot(Long userId) {
+    return MissionTodaySnapshotResponse.builder()
+        .date(LocalDate.now(ZoneId.of("Asia/Seoul")))
+        .missions(getTodayMissions(userId))
+        .ranking(getPopularMissionRanking(STREAM_RANKING_SIZE))
+        .build();
+  }
+
+  /**
+   * 오늘 날짜의 인기 미션 순위를 완료한 사용자 수 내림차순으로 조회합니다.
+   *
+   * @param size 조회 개수 (1~50)
+   * @return 순위 목록 (완료 이력이 없으면 빈 리스트)
+   */
+  public List<MissionRankResponse> getPopularMissionRanking(int size) {
+    LocalDate todayKST = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    int limit = Math.max(1, Math.min(size, MAX_RANKING_SIZE));
+
+    // 삭제된 미션이 섞여 있을 수 있으므로 여유분을 더 읽음
+    List<MissionLeaderboardService.Entry> entries =
+        missionLeaderboardService.getTop(todayKST, limit + 5);
+    if (entries.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Mission> missions =
         missionRepository
-            .findById(topId)
-            .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
-    return missionMapper.toResponse(mission);
+            .findAllWithStoreByIdIn(
+                entries.stream().map(MissionLeaderboardService.Entry::missionId).toList())
+            .stream()
+            .collect(Collectors.toMap(Mission::getId, Function.identity()));
+
+    List<MissionRankResponse> ranking = new ArrayList<>(limit);
+    for (MissionLeaderboardService.Entry entry : entries) {
+      Mission mission = missions.get(entry.missionId());
+      if (mission == null) {
+        continue;
+      }
+      ranking.add(
+          MissionRankResponse.builder()
+              .rank(ranking.size() + 1)
+              .completedCount(entry.completedCount())
+              .mission(missionMapper.toResponse(mission))
+              .build());
+      if (ranking.size() == limit) {
+        break;
+      }
+    }
+    return ranking;
   }
 
   /** 미션 날짜 변경: 동일 가게+제목 조합에서 같은 날짜로의 중복 금지, 오늘/미래만 허용 */
@@ -251,7 +435,7 @@ public class MissionService {
             .orElseThrow(() -> new CustomException(MissionErrorCode.MISSION_NOT_FOUND));
 
     // 완료 이력 있는 경우 변경 금지
-    if (missionRepository.countCompletionsByMissionId(mission.getId()) > 0) {
+    if (mission.getCompletionCount() > 0) {
       throw new CustomException(MissionErrorCode.MISSION_DATE_CHANGE_FORBIDDEN);
     }
 
@@ -268,7 +452,9 @@ public class MissionService {
       return missionMapper.toResponse(mission);
     }
 
+    LocalDate previousDate = mission.getDate();
     mission.changeDate(request.getDate());
+    eventPublisher.publishEvent(MissionCatalogChangedEvent.of(previousDate, request.getDate()));
     return missionMapper.toResponse(mission);
   }
 
@@ -298,6 +484,7 @@ public class MissionService {
     Mission cloned = missionMapper.toClone(src, request.getDate());
 
     Mission saved = missionRepository.save(cloned);
+    eventPublisher.publishEvent(MissionCatalogChangedEvent.of(saved.getDate()));
     return missionMapper.toResponse(saved);
   }
 }
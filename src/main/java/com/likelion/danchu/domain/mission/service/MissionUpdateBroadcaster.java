@@ -0,0 +1,132 @@
+package com.likelion.danchu.domain.mission.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.mission.dto.response.MissionDeltaResponse;
+import com.likelion.danchu.domain.mission.dto.response.MissionTodaySnapshotResponse;
+import com.likelion.danchu.global.event.DomainEventRelay;
+import com.likelion.danchu.infra.stream.DomainEventStream;
+import com.likelion.danchu.infra.stream.DomainEventType;
+import com.likelion.danchu.infra.stream.StreamEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 오늘의 미션 실시간 푸시 (인스턴스 메모리 브로드캐스터)
+ *
+ * <p>이벤트 스트림을 모든 인스턴스가 구독({@link DomainEventStream#subscribeAll})하여, 오늘 날짜의 미션 완료/목록 변경을 연결된 클라이언트에
+ * SSE로 보냅니다. 클라이언트는 연결 시 받은 스냅샷에 변경분만 반영하므로 주기적인 재조회가 필요 없습니다.
+ *
+ * <ul>
+ *   <li>{@code snapshot}: 연결 직후 1회, 오늘의 미션 목록과 인기 순위
+ *   <li>{@code popularity}: 미션 완료 수 증가분 (모든 구독자)
+ *   <li>{@code completed}: 본인이 완료한 미션 (해당 사용자에게만, 목록에서 제거)
+ *   <li>{@code catalog}: 오늘 미션 목록이 바뀜 (다시 조회 필요)
+ * </ul>
+ *
+ * <p>느린 구독자에게는 밀린 이벤트를 버리며(best effort), 연결은 {@code mission.stream.max-duration-minutes} 후 끊겨
+ * 클라이언트가 다시 연결합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionUpdateBroadcaster {
+
+  private static final String EVENT_SNAPSHOT = "snapshot";
+  private static final String EVENT_POPULARITY = "popularity";
+  private static final String EVENT_COMPLETED = "completed";
+  private static final String EVENT_CATALOG = "catalog";
+
+  private final DomainEventStream domainEventStream;
+  private final MeterRegistry meterRegistry;
+
+  private final Sinks.Many<Update> sink = Sinks.many().multicast().directBestEffort();
+  private final AtomicInteger connections = new AtomicInteger();
+
+  @Value("${mission.stream.heartbeat-seconds:15}")
+  private long heartbeatSeconds;
+
+  @Value("${mission.stream.max-duration-minutes:30}")
+  private long maxDurationMinutes;
+
+  /** 구독자에게 보낼 변경분 (targetUserId 가 null 이면 모든 구독자) */
+  private record Update(String name, Long targetUserId, MissionDeltaResponse data) {}
+
+  @PostConstruct
+  void init() {
+    meterRegistry.gauge("mission.stream.connections", connections);
+    domainEventStream.subscribeAll(this::handle);
+  }
+
+  /**
+   * 구독 스트림을 만듭니다. (스냅샷 → 변경분 + 하트비트)
+   *
+   * @param userId 구독하는 사용자 ID
+   * @param snapshot 연결 시점의 오늘의 미션 상태
+   */
+  public Flux<ServerSentEvent<Object>> connect(Long userId, MissionTodaySnapshotResponse snapshot) {
+    Flux<ServerSentEvent<Object>> updates =
+        sink.asFlux()
+            .filter(u -> u.targetUserId() == null || u.targetUserId().equals(userId))
+            .map(u -> ServerSentEvent.<Object>builder(u.data()).event(u.name()).build());
+
+    Flux<ServerSentEvent<Object>> heartbeats =
+        Flux.interval(Duration.ofSeconds(heartbeatSeconds))
+            .map(i -> ServerSentEvent.<Object>builder().comment("ping").build());
+
+    ServerSentEvent<Object> first =
+        ServerSentEvent.<Object>builder(snapshot).event(EVENT_SNAPSHOT).build();
+
+    return Flux.merge(Flux.just(first), updates, heartbeats)
+        .take(Duration.ofMinutes(maxDurationMinutes))
+        .doOnSubscribe(s -> connections.incrementAndGet())
+        .doFinally(signal -> connections.decrementAndGet());
+  }
+
+  void handle(StreamEvent event) {
+    LocalDate todayKST = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    if (event.type() == DomainEventType.MISSION_COMPLETED) {
+      LocalDate missionDate = LocalDate.parse(event.get(DomainEventRelay.MISSION_DATE));
+      if (!missionDate.equals(todayKST)) {
+        return;
+      }
+      MissionDeltaResponse delta =
+          MissionDeltaResponse.builder()
+              .date(missionDate)
+              .missionId(event.getLong(DomainEventRelay.MISSION_ID))
+              .completedCountDelta(1)
+              .build();
+      emit(new Update(EVENT_POPULARITY, null, delta));
+      emit(new Update(EVENT_COMPLETED, event.getLong(DomainEventRelay.USER_ID), delta));
+      return;
+    }
+
+    if (event.type() == DomainEventType.MISSION_CATALOG_CHANGED) {
+      boolean today =
+          Arrays.stream(event.get(DomainEventRelay.MISSION_DATES).split(","))
+              .anyMatch(date -> date.equals(todayKST.toString()));
+      if (today) {
+        emit(
+            new Update(EVENT_CATALOG, null, MissionDeltaResponse.builder().date(todayKST).build()));
+      }
+    }
+  }
+
+  // 여러 스레드에서 호출될 수 있으므로 직렬화 (구독자가 없으면 그냥 버려짐)
+  private synchronized void emit(Update update) {
+    sink.tryEmitNext(update);
+  }
+}
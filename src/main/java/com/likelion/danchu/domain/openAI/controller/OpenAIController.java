@@ -1,6 +1,7 @@
 package com.likelion.danchu.domain.openAI.controller;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,8 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.likelion.danchu.domain.openAI.dto.response.MissionRecommendResponse;
 import com.likelion.danchu.domain.openAI.dto.response.StoreRecommendResponse;
-import com.likelion.danchu.domain.openAI.service.MissionRecommendService;
-import com.likelion.danchu.domain.openAI.service.StoreRecommendService;
+import com.likelion.danchu.domain.openAI.service.RecommendResultService;
 import com.likelion.danchu.global.response.BaseResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,8 +23,7 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "OpenAI", description = "OpenAI 관련 API")
 public class OpenAIController {
 
-  private final StoreRecommendService storeRecommendService;
-  private final MissionRecommendService missionRecommendService;
+  private final RecommendResultService recommendResultService;
 
   @Operation(
       summary = "맞춤형 가게 추천",
@@ -37,13 +36,18 @@ public class OpenAIController {
                  - k1 = 사용자 해시태그 ∩ 가게 해시태그 개수 **내림차순**
                  - k1 동률 시 k2 = 사용자가 참여한 미션 중 해당 가게 횟수 **내림차순**
                  - 그래도 동률이면 storeId **내림차순**
-              2) 후보 5개에 한해 **임베딩 재랭킹** 수행
+              2) 전체 가게 **임베딩 검색** 후 점수 혼합
                  - 입력 A: 사용자 해시태그 텍스트(“#” 제거 후 공백 결합)
-                 - 입력 B: 각 가게의 description + 해시태그 텍스트
-                 - `text-embedding-3-small` 임베딩 코사인 유사도 기준 **내림차순**
+                 - 가게 임베딩(description + 해시태그 텍스트)은 미리 계산되어 있음
+                 - 코사인 유사도와 k1, k2를 가중 합산해 **내림차순**
                  - 임베딩 호출 실패 시 1)에서 얻은 순서를 그대로 사용
+                 - 임베딩이 지연 예산(기본 800ms) 안에 오지 않거나 OpenAI 장애로 차단 중이면 1)의 순서를 사용
               3) 응답에 가게 해시태그 포함
 
+              결과 저장
+              - 계산 결과는 사용자별로 저장되며, 관심 해시태그/미션 완료/가게 태그가 바뀌면 백그라운드에서 다시 계산됩니다.
+              - 바뀐 직후 조회는 이전 결과를 반환할 수 있습니다.
+
               요청 요건
               - **로그인 필수(JWT)**
 
@@ -51,10 +55,11 @@ public class OpenAIController {
               - 200 OK: BaseResponse<List<StoreRecommendResponse>>
               """)
   @GetMapping("/stores/recommend")
-  public ResponseEntity<BaseResponse<List<StoreRecommendResponse>>> recommendStores() {
-
-    List<StoreRecommendResponse> result = storeRecommendService.recommendTop5StoresForCurrentUser();
-    return ResponseEntity.ok(BaseResponse.success("추천 가게 5개 조회 성공", result));
+  public CompletableFuture<ResponseEntity<BaseResponse<List<StoreRecommendResponse>>>>
+      recommendStores() {
+    return recommendResultService
+        .recommendStoresForCurrentUser()
+        .thenApply(result -> ResponseEntity.ok(BaseResponse.success("추천 가게 5개 조회 성공", result)));
   }
 
   @Operation(
@@ -72,12 +77,18 @@ public class OpenAIController {
               2. 임베딩 기반 재랭킹
                 - A (사용자): 사용자 해시태그를 # 제거 후 공백으로 합친 문자열
                 - B (미션): 미션 제목 + 미션 설명 + 해당 가게 해시태그
+                - 지연 예산(기본 800ms) 초과, OpenAI 장애로 차단 중이면 1번 순서를 그대로 사용
               3. 최종 추천
                 - 재랭킹된 리스트에서 첫 번째 미션만 반환
+
+              결과 저장
+              - 계산 결과는 사용자별로 저장되며, 입력이 바뀌었거나 1시간이 지나면 백그라운드에서 다시 계산됩니다.
               """)
   @GetMapping("/missions/recommend")
-  public ResponseEntity<BaseResponse<MissionRecommendResponse>> recommendMission() {
-    MissionRecommendResponse result = missionRecommendService.recommendTopMissionForCurrentUser();
-    return ResponseEntity.ok(BaseResponse.success("추천 미션 조회 성공", result));
+  public CompletableFuture<ResponseEntity<BaseResponse<MissionRecommendResponse>>>
+      recommendMission() {
+    return recommendResultService
+        .recommendMissionForCurrentUser()
+        .thenApply(result -> ResponseEntity.ok(BaseResponse.success("추천 미션 조회 성공", result)));
   }
 }
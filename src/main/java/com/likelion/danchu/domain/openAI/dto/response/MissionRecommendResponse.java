@@ -1,11 +1,15 @@
 package com.likelion.danchu.domain.openAI.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Schema(title = "MissionRecommendResponse DTO", description = "맞춤형 미션 추천 응답")
 public class MissionRecommendResponse {
 
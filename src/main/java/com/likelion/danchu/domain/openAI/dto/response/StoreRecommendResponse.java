@@ -5,11 +5,15 @@ import java.util.List;
 import com.likelion.danchu.domain.hashtag.dto.response.HashtagResponse;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Schema(title = "StoreRecommendResponse DTO", description = "맞춤형 가게 추천 관련 응답")
 public class StoreRecommendResponse {
 
@@ -0,0 +1,72 @@
+package com.likelion.danchu.domain.openAI.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.mission.event.MissionCatalogChangedEvent;
+import com.likelion.danchu.domain.mission.event.MissionCompletedEvent;
+import com.likelion.danchu.domain.openAI.service.RecommendResultRefresher;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore.Kind;
+import com.likelion.danchu.domain.store.event.StoreChangedEvent;
+import com.likelion.danchu.domain.user.event.UserHashtagsChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 입력이 바뀐 커밋 후 입력 버전을 올립니다.
+ *
+ * <p>사용자별 입력(관심 태그, 미션 완료)이 바뀌면 저장된 결과가 있는 종류만 바로 백그라운드 재계산합니다. 전역 입력(가게 태그, 미션 목록)은 버전만 올리고, 각
+ * 사용자의 다음 조회에서 재계산됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendResultEventListener {
+
+  private final RecommendResultStore recommendResultStore;
+  private final RecommendResultRefresher recommendResultRefresher;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onUserHashtagsChanged(UserHashtagsChangedEvent event) {
+    onUserInputChanged(event.userId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onMissionCompleted(MissionCompletedEvent event) {
+    onUserInputChanged(event.userId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStoreChanged(StoreChangedEvent event) {
+    bumpGlobal(Kind.STORES);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onMissionCatalogChanged(MissionCatalogChangedEvent event) {
+    bumpGlobal(Kind.MISSION);
+  }
+
+  private void onUserInputChanged(Long userId) {
+    try {
+      recommendResultStore.bumpUser(userId);
+      for (Kind kind : Kind.values()) {
+        if (recommendResultStore.exists(kind, userId)) {
+          recommendResultRefresher.refreshAsync(kind, userId);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("[RecommendResult] user version bump failed. userId={}", userId, e);
+    }
+  }
+
+  private void bumpGlobal(Kind kind) {
+    try {
+      recommendResultStore.bumpGlobal(kind);
+    } catch (RuntimeException e) {
+      log.warn("[RecommendResult] version bump failed. kind={}", kind, e);
+    }
+  }
+}
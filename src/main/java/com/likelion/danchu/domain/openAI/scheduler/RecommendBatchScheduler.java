@@ -0,0 +1,91 @@
+package com.likelion.danchu.domain.openAI.scheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.openAI.service.RecommendBatchService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 사용자 가게 추천 일괄 계산 스케줄러
+ *
+ * <p>푸시 캠페인 전에 모든 사용자의 추천 결과를 미리 채워 둡니다. 한 노드에서만 돌도록 기본값은 꺼져 있으며({@code recommend.batch.enabled}),
+ * 실행할 노드에서만 켭니다.
+ *
+ * <p>실행은 전용 스레드({@code recommend-batch})에서 합니다. 스케줄러 스레드는 작업을 넘기고 바로 돌아오므로 오래 걸려도 아웃박스 발송/인덱스 갱신 등
+ * 다른 {@code @Scheduled} 작업을 막지 않습니다. 이전 실행이 끝나지 않았으면 이번 실행은 건너뜁니다.
+ *
+ * <p>메트릭: {@code recommend.batch.users}(저장한 사용자 수), {@code recommend.batch.duration}(실행 시간)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendBatchScheduler {
+
+  private final RecommendBatchService recommendBatchService;
+  private final MeterRegistry meterRegistry;
+
+  private final ExecutorService worker =
+      Executors.newSingleThreadExecutor(
+          r -> {
+            Thread thread = new Thread(r, "recommend-batch");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  @Value("${recommend.batch.enabled:false}")
+  private boolean enabled;
+
+  @Scheduled(cron = "${recommend.batch.cron:0 0 6 * * *}", zone = "Asia/Seoul")
+  public void recomputeAll() {
+    if (!enabled) {
+      return;
+    }
+    if (!running.compareAndSet(false, true)) {
+      log.warn("[RecommendBatch] previous run still in progress, skipped");
+      return;
+    }
+    worker.execute(
+        () -> {
+          try {
+            run();
+          } finally {
+            running.set(false);
+          }
+        });
+  }
+
+  @PreDestroy
+  public void stop() {
+    worker.shutdownNow();
+  }
+
+  private void run() {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      RecommendBatchService.Result result = recommendBatchService.recomputeAllStores();
+      meterRegistry.counter("recommend.batch.users").increment(result.users());
+      log.info(
+          "[RecommendBatch] users={}, skipped={}, degraded={}",
+          result.users(),
+          result.skipped(),
+          result.degraded());
+    } catch (RuntimeException e) {
+      log.error("[RecommendBatch] stopped", e);
+    } finally {
+      sample.stop(meterRegistry.timer("recommend.batch.duration"));
+    }
+  }
+}
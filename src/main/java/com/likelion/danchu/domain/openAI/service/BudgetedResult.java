@@ -0,0 +1,16 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.function.Function;
+
+/**
+ * 지연 예산 안에서 계산한 추천 결과
+ *
+ * @param value 추천 결과
+ * @param degraded 예산 초과/임베딩 실패로 재랭킹 없이 1차 순서를 썼는지 (저장하지 않고 백그라운드 재계산에 맡김)
+ */
+public record BudgetedResult<T>(T value, boolean degraded) {
+
+  public <R> BudgetedResult<R> map(Function<T, R> mapper) {
+    return new BudgetedResult<>(mapper.apply(value), degraded);
+  }
+}
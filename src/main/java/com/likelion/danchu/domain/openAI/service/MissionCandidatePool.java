@@ -0,0 +1,126 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.mission.entity.Mission;
+import com.likelion.danchu.domain.mission.event.MissionCatalogChangedEvent;
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.domain.store.event.StoreChangedEvent;
+import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 미션 추천 후보 풀 (인스턴스 메모리 캐시)
+ *
+ * <p>오늘부터 {@code mission.recommend.horizon-days}일 뒤까지의 완료 가능한 미션만, 가게 해시태그를 미리 붙인 스냅샷으로 보관합니다. 풀은
+ * 오늘 날짜를 키로 하여 날짜가 바뀌면 다시 적재하고, 미션 목록/가게 태그 변경이 커밋되면 비웁니다. 다른 인스턴스의 변경은 TTL이 지나면 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionCandidatePool {
+
+  private final MissionRepository missionRepository;
+  private final StoreHashtagRepository storeHashtagRepository;
+
+  @Value("${mission.recommend.horizon-days:7}")
+  private int horizonDays;
+
+  @Value("${mission.recommend.pool-ttl-seconds:300}")
+  private long ttlSeconds;
+
+  private volatile Snapshot snapshot;
+
+  /** 추천 후보 미션 (가게 태그 포함, 엔티티와 분리된 불변 값) */
+  public record Candidate(
+      Long missionId,
+      String title,
+      String description,
+      String reward,
+      LocalDate date,
+      long completionCount,
+      Long storeId,
+      String storeName,
+      List<String> storeTags) {}
+
+  private record Snapshot(LocalDate date, long loadedAtMillis, List<Candidate> candidates) {}
+
+  /** 오늘 기준 후보 목록 */
+  public List<Candidate> get() {
+    LocalDate todayKST = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    Snapshot current = snapshot;
+    if (isFresh(current, todayKST)) {
+      return current.candidates();
+    }
+
+    synchronized (this) {
+      current = snapshot;
+      if (!isFresh(current, todayKST)) {
+        current = new Snapshot(todayKST, System.currentTimeMillis(), load(todayKST));
+        snapshot = current;
+      }
+      return current.candidates();
+    }
+  }
+
+  /** 풀 비우기 (다음 조회 시 다시 적재) */
+  public void evict() {
+    snapshot = null;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onCatalogChanged(MissionCatalogChangedEvent event) {
+    evict();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStoreChanged(StoreChangedEvent event) {
+    evict();
+  }
+
+  private boolean isFresh(Snapshot s, LocalDate today) {
+    return s != null
+        && s.date().equals(today)
+        && System.currentTimeMillis() - s.loadedAtMillis() < ttlSeconds * 1000;
+  }
+
+  private List<Candidate> load(LocalDate today) {
+    List<Mission> missions =
+        missionRepository.findAllWithStoreBetween(today, today.plusDays(horizonDays));
+    if (missions.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> storeIds = missions.stream().map(m -> m.getStore().getId()).distinct().toList();
+    Map<Long, List<String>> storeTagMap =
+        storeHashtagRepository.findWithHashtagByStoreIdIn(storeIds).stream()
+            .collect(
+                Collectors.groupingBy(
+                    sh -> sh.getStore().getId(),
+                    Collectors.mapping(sh -> sh.getHashtag().getName(), Collectors.toList())));
+
+    return missions.stream()
+        .map(
+            m ->
+                new Candidate(
+                    m.getId(),
+                    m.getTitle(),
+                    m.getDescription(),
+                    m.getReward(),
+                    m.getDate(),
+                    m.getCompletionCount(),
+                    m.getStore().getId(),
+                    m.getStore().getName(),
+                    List.copyOf(storeTagMap.getOrDefault(m.getStore().getId(), List.of()))))
+        .toList();
+  }
+}
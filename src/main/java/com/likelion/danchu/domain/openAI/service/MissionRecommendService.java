@@ -3,29 +3,24 @@ package com.likelion.danchu.domain.openAI.service;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.likelion.danchu.domain.hashtag.entity.Hashtag;
-import com.likelion.danchu.domain.mission.entity.Mission;
 import com.likelion.danchu.domain.mission.exception.MissionErrorCode;
-import com.likelion.danchu.domain.mission.repository.MissionRepository;
 import com.likelion.danchu.domain.openAI.dto.response.MissionRecommendResponse;
 import com.likelion.danchu.domain.openAI.exception.OpenAIErrorCode;
-import com.likelion.danchu.domain.store.entity.Store;
-import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
+import com.likelion.danchu.domain.openAI.service.MissionCandidatePool.Candidate;
 import com.likelion.danchu.domain.user.entity.UserHashtag;
-import com.likelion.danchu.domain.user.exception.UserErrorCode;
 import com.likelion.danchu.domain.user.repository.UserHashtagRepository;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
-import com.likelion.danchu.global.security.SecurityUtil;
-import com.likelion.danchu.infra.openAI.OpenAIUtil;
+import com.likelion.danchu.infra.openAI.EmbeddingVectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,11 +28,13 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 맞춤형 미션 추천 서비스 (단일 추천).
  *
+ * <p>후보는 오늘 이후 완료 가능한 미션만 담은 {@link MissionCandidatePool} 에서 가져오므로, 지난 미션이 쌓여도 비용이 늘지 않습니다.
+ *
  * <p>알고리즘:
  *
  * <ol>
  *   <li>k1: 사용자 해시태그 ∩ 가게 해시태그 개수
- *   <li>k2: 미션 완료(인기) 추정치(없으면 0)
+ *   <li>k2: 미션 완료 수 (mission.completion_count 컬럼 값)
  *   <li>정렬키: (k1 desc, k2 desc, missionId desc) 로 1차 후보 상위 5개
  *   <li>후보 5개에 대해 임베딩 코사인 유사도 재랭킹(실패 시 1차 순서 유지)
  * </ol>
@@ -50,17 +47,34 @@ public class MissionRecommendService {
 
   private static final int TOP_K = 5;
 
-  private final OpenAIUtil openAIUtil;
+  // 폴백 메트릭 태그
+  private static final String RECOMMENDER = "mission";
+
+  private final RerankEmbeddingClient rerankEmbeddingClient;
   private final UserRepository userRepository;
   private final UserHashtagRepository userHashtagRepository;
-  private final MissionRepository missionRepository;
-  private final StoreHashtagRepository storeHashtagRepository;
+  private final MissionCandidatePool missionCandidatePool;
+
+  /**
+   * 사용자에게 미션 1개를 추천 (매번 새로 계산, API 응답은 {@link RecommendResultService} 저장본 우선)
+   *
+   * <p>후보 선정까지는 호출 스레드에서, 임베딩 재랭킹 이후는 임베딩 응답이 도착한 뒤(캐시 적중 시 즉시) 이어서 처리합니다.
+   *
+   * @param userId 사용자 ID
+   */
+  public CompletableFuture<MissionRecommendResponse> recommendFor(Long userId) {
+    return recommend(userId, false).thenApply(BudgetedResult::value);
+  }
 
-  /** 로그인 사용자에게 미션 1개를 추천 */
-  public MissionRecommendResponse recommendTopMissionForCurrentUser() {
-    Long userId =
-        Optional.ofNullable(SecurityUtil.getCurrentUserId())
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+  /** 요청 경로용: 임베딩 재랭킹이 지연 예산을 넘으면 1차 순서로 응답 ({@link RerankEmbeddingClient}) */
+  public CompletableFuture<BudgetedResult<MissionRecommendResponse>> recommendWithinBudget(
+      Long userId) {
+    return recommend(userId, true);
+  }
+
+  private CompletableFuture<BudgetedResult<MissionRecommendResponse>> recommend(
+      Long userId, boolean budgeted) {
+    long startNanos = System.nanoTime();
 
     // 1) 사용자 관심 해시태그
     List<String> userTags =
@@ -68,54 +82,34 @@ public class MissionRecommendService {
             .map(UserHashtag::getHashtag)
             .map(Hashtag::getName)
             .distinct()
+            .sorted() // 임베딩 문장(캐시 키)이 조회 순서와 무관하도록
             .toList();
     if (userTags.isEmpty()) {
       throw new CustomException(OpenAIErrorCode.USER_HASHTAG_EMPTY);
     }
 
-    // 2) 미션 + 스토어(fetch-join)
-    List<Mission> allMissions = missionRepository.findAllWithStore();
-    if (allMissions.isEmpty()) {
+    // 2) 진행 중/예정 미션 후보 (가게 태그 포함, 캐시)
+    List<Candidate> pool = missionCandidatePool.get();
+    if (pool.isEmpty()) {
       throw new CustomException(MissionErrorCode.MISSION_NOT_FOUND);
     }
 
-    // 2-1) 스토어 해시태그 일괄 조회
-    List<Long> storeIds = allMissions.stream().map(m -> m.getStore().getId()).distinct().toList();
-
-    Map<Long, List<String>> storeTagMap =
-        storeHashtagRepository.findByStore_IdIn(storeIds).stream()
-            .collect(
-                Collectors.groupingBy(
-                    sh -> sh.getStore().getId(),
-                    Collectors.mapping(sh -> sh.getHashtag().getName(), Collectors.toList())));
-
-    // 2-2) 미션별 완료 수(k2) 일괄 집계
-    List<Long> missionIds = allMissions.stream().map(Mission::getId).toList();
-    Map<Long, Long> k2Map =
-        missionRepository.findCompleteCountsByMissionIds(missionIds).stream()
-            .collect(
-                Collectors.toMap(
-                    r -> ((Number) r[0]).longValue(), // missionId
-                    r -> ((Number) r[1]).longValue() // completed count
-                    ));
-
     // 3) 스코어링(k1: 태그 교집합 수, k2: 완료 수)
     Set<String> u = new HashSet<>(userTags);
-    record Sc(Mission m, int k1, long k2) {}
+    record Sc(Candidate m, int k1, long k2) {}
 
     List<Sc> scored =
-        allMissions.stream()
+        pool.stream()
             .map(
                 m -> {
-                  List<String> tags = storeTagMap.getOrDefault(m.getStore().getId(), List.of());
-                  int k1 = (int) tags.stream().filter(u::contains).count();
-                  long k2 = k2Map.getOrDefault(m.getId(), 0L);
+                  int k1 = (int) m.storeTags().stream().filter(u::contains).count();
+                  long k2 = m.completionCount(); // 미션별 완료 수
                   return new Sc(m, k1, k2);
                 })
             .toList();
 
     // 4) 1차 후보 상위 TOP_K
-    List<Mission> candidates =
+    List<Candidate> candidates =
         scored.stream()
             .sorted(
                 (a, b) -> {
@@ -127,52 +121,52 @@ public class MissionRecommendService {
                   if (c != 0) {
                     return c;
                   }
-                  return Long.compare(b.m().getId(), a.m().getId());
+                  return Long.compare(b.m().missionId(), a.m().missionId());
                 })
             .limit(TOP_K)
             .map(Sc::m)
             .toList();
 
-    if (candidates.isEmpty()) {
-      throw new CustomException(MissionErrorCode.MISSION_NOT_FOUND);
-    }
-
     // 5) 임베딩 재랭킹(user text vs mission text)
     String userText = normalizeTags(userTags);
-    List<String> missionTexts =
-        candidates.stream()
-            .map(
-                m -> buildMissionText(m, storeTagMap.getOrDefault(m.getStore().getId(), List.of())))
-            .toList();
+    List<String> missionTexts = candidates.stream().map(this::buildMissionText).toList();
+
+    List<String> inputs = new ArrayList<>(1 + missionTexts.size());
+    inputs.add(userText);
+    inputs.addAll(missionTexts);
+
+    // 6) 최종 1개만 DTO로 반환 (임베딩 응답을 기다리는 동안 요청 스레드를 점유하지 않음)
+    // [0] user, 이후 후보 미션들
+    CompletableFuture<List<float[]>> embedded =
+        budgeted
+            ? rerankEmbeddingClient.embedWithinBudget(RECOMMENDER, inputs, startNanos)
+            : rerankEmbeddingClient.embed(RECOMMENDER, inputs);
+    return embedded
+        .thenApply(vecs -> new BudgetedResult<>(rerank(candidates, vecs, inputs.size()), false))
+        .exceptionally(
+            e -> {
+              log.warn("[Embeddings] fallback to deterministic order. cause={}", e.toString());
+              return new BudgetedResult<>(candidates, true);
+            })
+        .thenApply(ranked -> ranked.map(finalOrder -> toDto(finalOrder.get(0))));
+  }
 
-    List<Mission> finalOrder = candidates;
-    try {
-      List<String> inputs = new ArrayList<>(1 + missionTexts.size());
-      inputs.add(userText);
-      inputs.addAll(missionTexts);
-
-      var vecs = openAIUtil.embedAll(inputs); // [0] user, 이후 후보 미션들
-      if (vecs.size() == inputs.size()) {
-        double[] uvec = vecs.get(0);
-        record Rank(Mission m, double sim) {}
-
-        List<Rank> ranks = new ArrayList<>();
-        for (int i = 0; i < candidates.size(); i++) {
-          double sim = OpenAIUtil.cosine(uvec, vecs.get(i + 1));
-          ranks.add(new Rank(candidates.get(i), sim));
-        }
-        ranks.sort((x, y) -> Double.compare(y.sim, x.sim));
-        finalOrder = ranks.stream().map(Rank::m).toList();
-      } else {
-        log.warn("[Embeddings] size mismatch: expected={}, got={}", inputs.size(), vecs.size());
-      }
-    } catch (Exception e) {
-      log.warn("[Embeddings] fallback to deterministic order. cause={}", e.toString());
+  /** 사용자 벡터와의 유사도 내림차순으로 후보 재정렬 (개수가 맞지 않으면 1차 순서 유지) */
+  private List<Candidate> rerank(List<Candidate> candidates, List<float[]> vecs, int expected) {
+    if (vecs.size() != expected) {
+      log.warn("[Embeddings] size mismatch: expected={}, got={}", expected, vecs.size());
+      return candidates;
     }
+    float[] uvec = vecs.get(0);
+    record Rank(Candidate m, double sim) {}
 
-    // 6) 최종 1개만 DTO로 반환
-    Mission top = finalOrder.get(0);
-    return toDto(top);
+    List<Rank> ranks = new ArrayList<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      double sim = EmbeddingVectors.dot(uvec, vecs.get(i + 1));
+      ranks.add(new Rank(candidates.get(i), sim));
+    }
+    ranks.sort((x, y) -> Double.compare(y.sim, x.sim));
+    return ranks.stream().map(Rank::m).toList();
   }
 
   /** "#태그"들을 공백으로 연결한 텍스트 */
@@ -183,20 +177,19 @@ public class MissionRecommendService {
   }
 
   /** 미션 텍스트(제목 + 설명 + 가게 태그) */
-  private String buildMissionText(Mission m, List<String> storeTags) {
-    String title = Optional.ofNullable(m.getTitle()).orElse("");
-    String desc = Optional.ofNullable(m.getDescription()).orElse("");
-    String tagStr = normalizeTags(storeTags);
+  private String buildMissionText(Candidate m) {
+    String title = Optional.ofNullable(m.title()).orElse("");
+    String desc = Optional.ofNullable(m.description()).orElse("");
+    String tagStr = normalizeTags(m.storeTags());
     return (title + " " + desc + " " + tagStr).trim();
   }
 
-  private MissionRecommendResponse toDto(Mission m) {
-    Store s = m.getStore();
+  private MissionRecommendResponse toDto(Candidate m) {
     return MissionRecommendResponse.builder()
-        .missionId(m.getId())
-        .title(m.getTitle())
-        .reward(m.getReward())
-        .storeName(s != null ? s.getName() : null)
+        .missionId(m.missionId())
+        .title(m.title())
+        .reward(m.reward())
+        .storeName(m.storeName())
         .build();
   }
 }
@@ -0,0 +1,197 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.domain.openAI.dto.response.StoreRecommendResponse;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore.Kind;
+import com.likelion.danchu.domain.user.repository.UserHashtagRepository;
+import com.likelion.danchu.domain.user.repository.UserRepository;
+import com.likelion.danchu.infra.openAI.OpenAIUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전체 사용자 가게 추천 일괄 계산 (푸시 캠페인 등 오프라인 용도)
+ *
+ * <p>사용자 ID 를 키셋 페이지네이션으로 {@code recommend.batch.chunk-size} 명씩 읽고, 묶음마다 다음을 수행합니다.
+ *
+ * <ol>
+ *   <li>입력 버전을 MGET 한 번으로 먼저 읽기 (계산 중 바뀐 사용자는 다음 조회에서 다시 계산되도록)
+ *   <li>사용자 태그·미션 참여 이력을 묶음 단위 쿼리 2번으로 조회
+ *   <li>사용자 태그 문장을 중복 제거해 임베딩 (캐시 우선, 미적중분은 배처를 거쳐 묶어서 호출). 태그는 이름순으로 정렬해 요청 경로와 같은 문장(캐시 키)이 되도록 함
+ *   <li>전용 {@link ForkJoinPool} 에서 사용자별 순위를 병렬 계산 (요청 경로와 같은 {@link StoreRecommendService#rank})
+ *   <li>결과를 {@link RecommendResultStore} 에 파이프라인 한 번으로 저장
+ * </ol>
+ *
+ * <p>임베딩을 쓰도록 설정되어 있는데 벡터를 얻지 못한 사용자(호출 실패·서킷 열림 등)는 1차 순서 결과를 저장하지 않습니다. 현재 버전으로 저장하면 최신 결과처럼
+ * 보이므로, 요청 경로가 성능 저하 결과를 저장하지 않는 것과 같이 다음 조회 때 다시 계산되도록 둡니다.
+ *
+ * <p>가게 태그 역색인과 가게 임베딩 인덱스는 인스턴스 메모리에 있는 것을 그대로 사용하고, 응답 DTO 는 실행 시작 시 한 번만 만듭니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendBatchService {
+
+  private final UserRepository userRepository;
+  private final UserHashtagRepository userHashtagRepository;
+  private final MissionRepository missionRepository;
+  private final StoreRecommendService storeRecommendService;
+  private final StoreEmbeddingIndex storeEmbeddingIndex;
+  private final RecommendResultStore recommendResultStore;
+  private final OpenAIUtil openAIUtil;
+
+  @Value("${recommend.batch.chunk-size:1000}")
+  private int chunkSize;
+
+  // 0 이면 사용 가능한 코어 수
+  @Value("${recommend.batch.parallelism:0}")
+  private int parallelism;
+
+  @Value("${recommend.batch.use-embeddings:true}")
+  private boolean useEmbeddings;
+
+  /** 실행 결과 (저장한 사용자 수, 태그가 없어 건너뛴 사용자 수, 임베딩을 얻지 못해 저장하지 않은 사용자 수) */
+  public record Result(long users, long skipped, long degraded) {}
+
+  private record ChunkResult(int written, int degraded) {}
+
+  /** 전체 사용자 가게 추천을 다시 계산해 저장합니다. */
+  public Result recomputeAllStores() {
+    Map<Long, StoreRecommendResponse> responses = storeRecommendService.loadAllResponses();
+    ForkJoinPool pool =
+        new ForkJoinPool(
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+
+    long users = 0L;
+    long skipped = 0L;
+    long degraded = 0L;
+    try {
+      long afterId = 0L;
+      while (true) {
+        List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        if (userIds.isEmpty()) {
+          break;
+        }
+        ChunkResult chunk = processChunk(userIds, responses, pool);
+        users += chunk.written();
+        degraded += chunk.degraded();
+        skipped += userIds.size() - chunk.written() - chunk.degraded();
+        afterId = userIds.get(userIds.size() - 1);
+        if (userIds.size() < chunkSize) {
+          break;
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+    return new Result(users, skipped, degraded);
+  }
+
+  /** 한 묶음 처리 (저장한 사용자 수, 임베딩이 없어 저장하지 않은 사용자 수) */
+  private ChunkResult processChunk(
+      List<Long> userIds, Map<Long, StoreRecommendResponse> responses, ForkJoinPool pool) {
+    Map<Long, String> versions = recommendResultStore.currentVersions(Kind.STORES, userIds);
+
+    Map<Long, List<String>> userTags = new LinkedHashMap<>();
+    for (Object[] row : userHashtagRepository.findUserIdAndHashtagNameByUserIdIn(userIds)) {
+      List<String> tags =
+          userTags.computeIfAbsent(((Number) row[0]).longValue(), k -> new ArrayList<>());
+      if (!tags.contains((String) row[1])) {
+        tags.add((String) row[1]);
+      }
+    }
+    if (userTags.isEmpty()) {
+      return new ChunkResult(0, 0);
+    }
+    // 조회 순서(DB 정렬 규칙)와 무관하게 요청 경로와 같은 문장이 되도록 정렬
+    userTags.values().forEach(tags -> tags.sort(null));
+
+    Map<Long, Map<Long, Long>> missionStoreCount = new HashMap<>();
+    for (Object[] row : missionRepository.countCompletedByStoreForUsers(userIds)) {
+      missionStoreCount
+          .computeIfAbsent(((Number) row[0]).longValue(), k -> new HashMap<>())
+          .put(((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+    }
+
+    // 가게 임베딩 인덱스가 비어 있으면 요청 경로처럼 1차 순서가 정상 결과
+    boolean needVectors = useEmbeddings && !storeEmbeddingIndex.isEmpty();
+    Map<String, float[]> vectors = needVectors ? embedTagTexts(userTags.values()) : Map.of();
+
+    List<Map.Entry<Long, List<String>>> entries = new ArrayList<>();
+    for (Map.Entry<Long, List<String>> e : userTags.entrySet()) {
+      if (!needVectors || vectors.get(StoreEmbeddingIndex.tagText(e.getValue())) != null) {
+        entries.add(e);
+      }
+    }
+    int degraded = userTags.size() - entries.size();
+    if (degraded > 0) {
+      log.warn("[RecommendBatch] no embedding, not saving rule order. users={}", degraded);
+    }
+    if (entries.isEmpty()) {
+      return new ChunkResult(0, degraded);
+    }
+    List<List<StoreRecommendResponse>> ranked =
+        pool.submit(
+                () ->
+                    entries.parallelStream()
+                        .map(
+                            e -> {
+                              List<Long> order =
+                                  storeRecommendService.rank(
+                                      e.getValue(),
+                                      missionStoreCount.getOrDefault(e.getKey(), Map.of()),
+                                      vectors.get(StoreEmbeddingIndex.tagText(e.getValue())));
+                              return order.stream()
+                                  .map(responses::get)
+                                  .filter(Objects::nonNull)
+                                  .toList();
+                            })
+                        .toList())
+            .join();
+
+    Map<Long, List<StoreRecommendResponse>> results = new HashMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      results.put(entries.get(i).getKey(), ranked.get(i));
+    }
+    try {
+      recommendResultStore.saveAll(Kind.STORES, results, versions);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("recommend result serialize failed", e);
+    }
+    return new ChunkResult(results.size(), degraded);
+  }
+
+  /** 사용자 태그 문장 임베딩 (문장 → 벡터, 실패 시 빈 맵) */
+  private Map<String, float[]> embedTagTexts(Iterable<List<String>> tagLists) {
+    LinkedHashSet<String> texts = new LinkedHashSet<>();
+    tagLists.forEach(tags -> texts.add(StoreEmbeddingIndex.tagText(tags)));
+
+    List<String> inputs = List.copyOf(texts);
+    try {
+      List<float[]> embedded = openAIUtil.embedAll(inputs);
+      Map<String, float[]> vectors = new HashMap<>();
+      for (int i = 0; i < inputs.size(); i++) {
+        vectors.put(inputs.get(i), embedded.get(i));
+      }
+      return vectors;
+    } catch (RuntimeException e) {
+      log.warn("[RecommendBatch] embedding failed. texts={}", inputs.size(), e);
+      return Map.of();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.openAI.dto.response.MissionRecommendResponse;
+import com.likelion.danchu.domain.openAI.dto.response.StoreRecommendResponse;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore.Kind;
+import com.likelion.danchu.global.exception.CustomException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 추천 결과 재계산 후 {@link RecommendResultStore} 에 저장
+ *
+ * <p>같은 사용자·종류의 재계산이 진행 중이면 새 요청은 건너뜁니다. (인스턴스 단위)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendResultRefresher {
+
+  private final RecommendResultStore recommendResultStore;
+  private final StoreRecommendService storeRecommendService;
+  private final MissionRecommendService missionRecommendService;
+
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+  /**
+   * 가게 추천을 계산해 저장합니다.
+   *
+   * @param version 계산 전에 읽은 입력 버전 (null 이면 저장하지 않음)
+   */
+  public CompletableFuture<List<StoreRecommendResponse>> computeStores(
+      Long userId, String version) {
+    return storeRecommendService
+        .recommendFor(userId)
+        .thenApply(
+            result -> {
+              recommendResultStore.save(Kind.STORES, userId, version, result);
+              return result;
+            });
+  }
+
+  /**
+   * 미션 추천을 계산해 저장합니다.
+   *
+   * @param version 계산 전에 읽은 입력 버전 (null 이면 저장하지 않음)
+   */
+  public CompletableFuture<MissionRecommendResponse> computeMission(Long userId, String version) {
+    return missionRecommendService
+        .recommendFor(userId)
+        .thenApply(
+            result -> {
+              recommendResultStore.save(Kind.MISSION, userId, version, result);
+              return result;
+            });
+  }
+
+  /** 백그라운드 재계산 (stale-while-revalidate, 입력 변경 이벤트) */
+  @Async
+  public void refreshAsync(Kind kind, Long userId) {
+    String key = kind + ":" + userId;
+    if (!inFlight.add(key)) {
+      return;
+    }
+
+    CompletableFuture<?> future;
+    try {
+      String version = recommendResultStore.currentVersion(kind, userId);
+      future =
+          kind == Kind.STORES ? computeStores(userId, version) : computeMission(userId, version);
+    } catch (CustomException e) {
+      // 관심 태그가 비는 등 추천할 수 없는 상태면 이전 결과를 지워 다음 조회가 같은 오류를 받도록 함
+      inFlight.remove(key);
+      try {
+        recommendResultStore.delete(kind, userId);
+      } catch (RuntimeException ex) {
+        log.warn("[RecommendResult] delete failed. kind={}, userId={}", kind, userId, ex);
+      }
+      return;
+    } catch (RuntimeException e) {
+      inFlight.remove(key);
+      log.warn("[RecommendResult] refresh failed. kind={}, userId={}", kind, userId, e);
+      return;
+    }
+
+    future.whenComplete(
+        (result, e) -> {
+          inFlight.remove(key);
+          if (e != null) {
+            log.warn("[RecommendResult] refresh failed. kind={}, userId={}", kind, userId, e);
+          }
+        });
+  }
+}
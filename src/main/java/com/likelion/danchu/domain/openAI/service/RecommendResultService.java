@@ -0,0 +1,84 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.danchu.domain.openAI.dto.response.MissionRecommendResponse;
+import com.likelion.danchu.domain.openAI.dto.response.StoreRecommendResponse;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore.Kind;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore.Lookup;
+import com.likelion.danchu.domain.user.exception.UserErrorCode;
+import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.security.SecurityUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 사용자 추천 조회 (저장된 결과 우선)
+ *
+ * <ul>
+ *   <li>최신 결과가 있으면 그대로 반환
+ *   <li>입력이 바뀌었거나 오래된 결과면 일단 반환하고 백그라운드에서 재계산 (stale-while-revalidate)
+ *   <li>결과가 없으면 요청 안에서 지연 예산 내로 한 번 계산해 응답하고 그 결과를 저장. 예산 초과로 1차 순서에 그친 결과는 저장하지 않고 예산 제한 없는 백그라운드
+ *       계산에 맡김
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendResultService {
+
+  private final RecommendResultStore recommendResultStore;
+  private final RecommendResultRefresher recommendResultRefresher;
+  private final StoreRecommendService storeRecommendService;
+  private final MissionRecommendService missionRecommendService;
+
+  public CompletableFuture<List<StoreRecommendResponse>> recommendStoresForCurrentUser() {
+    Long userId = currentUserId();
+    Lookup<List<StoreRecommendResponse>> lookup =
+        recommendResultStore.lookup(Kind.STORES, userId, RecommendResultStore.STORES_TYPE);
+    return serve(
+        Kind.STORES, userId, lookup, () -> storeRecommendService.recommendWithinBudget(userId));
+  }
+
+  public CompletableFuture<MissionRecommendResponse> recommendMissionForCurrentUser() {
+    Long userId = currentUserId();
+    Lookup<MissionRecommendResponse> lookup =
+        recommendResultStore.lookup(Kind.MISSION, userId, RecommendResultStore.MISSION_TYPE);
+    return serve(
+        Kind.MISSION, userId, lookup, () -> missionRecommendService.recommendWithinBudget(userId));
+  }
+
+  private <T> CompletableFuture<T> serve(
+      Kind kind,
+      Long userId,
+      Lookup<T> lookup,
+      Supplier<CompletableFuture<BudgetedResult<T>>> compute) {
+    if (lookup.entry() == null) {
+      // 조회 시점 버전으로 저장하므로, 계산 중 입력이 바뀌면 다음 조회에서 다시 계산됨
+      return compute
+          .get()
+          .thenApply(
+              result -> {
+                if (result.degraded()) {
+                  recommendResultRefresher.refreshAsync(kind, userId);
+                } else {
+                  recommendResultStore.save(kind, userId, lookup.version(), result.value());
+                }
+                return result.value();
+              });
+    }
+    if (!lookup.fresh()) {
+      recommendResultRefresher.refreshAsync(kind, userId);
+    }
+    return CompletableFuture.completedFuture(lookup.entry().value());
+  }
+
+  private Long currentUserId() {
+    return Optional.ofNullable(SecurityUtil.getCurrentUserId())
+        .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+  }
+}
@@ -0,0 +1,216 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.danchu.domain.openAI.dto.response.MissionRecommendResponse;
+import com.likelion.danchu.domain.openAI.dto.response.StoreRecommendResponse;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 추천 결과 저장소 (Redis, JSON)
+ *
+ * <p>키: {@code recommend:result:{kind}:{userId}}. 결과에는 계산 시점의 입력 버전을 함께 저장합니다. 입력 버전은 사용자별
+ * 카운터({@code recommend:version:user:{userId}}, 관심 태그 변경/미션 완료 시 증가)와 종류별 전역 카운터(가게 태그 또는 미션 목록 변경 시
+ * 증가)를 이어 붙인 값이며, 미션 추천은 KST 날짜도 포함합니다.
+ *
+ * <p>조회는 결과와 두 카운터를 MGET 한 번으로 읽어, 저장된 버전이 현재 버전과 같고 {@code recommend.result.max-age-seconds} 이내에
+ * 계산된 결과면 최신으로 봅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendResultStore {
+
+  private static final String RESULT_KEY_PREFIX = "recommend:result:";
+  private static final String USER_VERSION_KEY_PREFIX = "recommend:version:user:";
+
+  private final RedisUtil redisUtil;
+  private final ObjectMapper objectMapper;
+
+  @Value("${recommend.result.ttl-seconds:604800}")
+  private long ttlSeconds;
+
+  // 버전이 같아도 이 시간이 지나면 다시 계산 (미션 완료 수 등 버전에 반영되지 않는 입력용)
+  @Value("${recommend.result.max-age-seconds:3600}")
+  private long maxAgeSeconds;
+
+  /** 추천 종류 (전역 입력 버전 키) */
+  public enum Kind {
+    STORES("stores", "recommend:version:store-tags"),
+    MISSION("mission", "recommend:version:mission-catalog");
+
+    private final String key;
+    private final String globalVersionKey;
+
+    Kind(String key, String globalVersionKey) {
+      this.key = key;
+      this.globalVersionKey = globalVersionKey;
+    }
+  }
+
+  /**
+   * 저장된 결과
+   *
+   * @param version 계산 시점의 입력 버전
+   * @param computedAt 계산 시각 (epoch millis)
+   * @param value 추천 결과
+   */
+  public record Entry<T>(String version, long computedAt, T value) {}
+
+  /**
+   * 조회 결과
+   *
+   * @param entry 저장된 결과 (없으면 null)
+   * @param version 현재 입력 버전 (Redis 장애 시 null)
+   * @param fresh 저장된 결과를 그대로 써도 되는지
+   */
+  public record Lookup<T>(Entry<T> entry, String version, boolean fresh) {}
+
+  public static final TypeReference<Entry<List<StoreRecommendResponse>>> STORES_TYPE =
+      new TypeReference<>() {};
+  public static final TypeReference<Entry<MissionRecommendResponse>> MISSION_TYPE =
+      new TypeReference<>() {};
+
+  /** 결과와 현재 입력 버전을 한 번에 조회합니다. Redis 장애 시 빈 조회 결과를 반환합니다. */
+  public <T> Lookup<T> lookup(Kind kind, Long userId, TypeReference<Entry<T>> type) {
+    List<String> values;
+    try {
+      values =
+          redisUtil.multiGet(
+              List.of(
+                  resultKey(kind, userId),
+                  USER_VERSION_KEY_PREFIX + userId,
+                  kind.globalVersionKey));
+    } catch (RuntimeException e) {
+      log.warn("[RecommendResult] lookup failed. kind={}, userId={}", kind, userId, e);
+      return new Lookup<>(null, null, false);
+    }
+
+    String version = version(kind, values.get(1), values.get(2));
+    Entry<T> entry = decode(values.get(0), type, kind, userId);
+    boolean fresh =
+        entry != null
+            && version.equals(entry.version())
+            && System.currentTimeMillis() - entry.computedAt() < maxAgeSeconds * 1000;
+    return new Lookup<>(entry, version, fresh);
+  }
+
+  /** 현재 입력 버전 (Redis 장애 시 null) */
+  public String currentVersion(Kind kind, Long userId) {
+    try {
+      List<String> values =
+          redisUtil.multiGet(List.of(USER_VERSION_KEY_PREFIX + userId, kind.globalVersionKey));
+      return version(kind, values.get(0), values.get(1));
+    } catch (RuntimeException e) {
+      log.warn("[RecommendResult] version read failed. kind={}, userId={}", kind, userId, e);
+      return null;
+    }
+  }
+
+  /**
+   * 여러 사용자의 현재 입력 버전 (MGET 한 번)
+   *
+   * @return 사용자 ID → 입력 버전 (userIds 순서)
+   */
+  public Map<Long, String> currentVersions(Kind kind, List<Long> userIds) {
+    List<String> keys = new ArrayList<>(userIds.size() + 1);
+    userIds.forEach(userId -> keys.add(USER_VERSION_KEY_PREFIX + userId));
+    keys.add(kind.globalVersionKey);
+
+    List<String> values = redisUtil.multiGet(keys);
+    String globalVersion = values.get(userIds.size());
+    Map<Long, String> versions = new LinkedHashMap<>();
+    for (int i = 0; i < userIds.size(); i++) {
+      versions.put(userIds.get(i), version(kind, values.get(i), globalVersion));
+    }
+    return versions;
+  }
+
+  /**
+   * 여러 사용자의 결과를 파이프라인 한 번으로 저장합니다.
+   *
+   * @param results 사용자 ID → 추천 결과
+   * @param versions 사용자 ID → 계산 전에 읽은 입력 버전
+   */
+  public void saveAll(Kind kind, Map<Long, ?> results, Map<Long, String> versions)
+      throws JsonProcessingException {
+    long now = System.currentTimeMillis();
+    Map<String, String> values = new HashMap<>();
+    for (Map.Entry<Long, ?> e : results.entrySet()) {
+      Entry<?> entry = new Entry<>(versions.get(e.getKey()), now, e.getValue());
+      values.put(resultKey(kind, e.getKey()), objectMapper.writeValueAsString(entry));
+    }
+    redisUtil.setAll(values, ttlSeconds);
+  }
+
+  /** 결과 저장 (버전이 없으면 저장하지 않음) */
+  public void save(Kind kind, Long userId, String version, Object value) {
+    if (version == null) {
+      return;
+    }
+    try {
+      String json =
+          objectMapper.writeValueAsString(new Entry<>(version, System.currentTimeMillis(), value));
+      redisUtil.setData(resultKey(kind, userId), json, ttlSeconds);
+    } catch (JsonProcessingException | RuntimeException e) {
+      log.warn("[RecommendResult] save failed. kind={}, userId={}", kind, userId, e);
+    }
+  }
+
+  public boolean exists(Kind kind, Long userId) {
+    return redisUtil.existData(resultKey(kind, userId));
+  }
+
+  public void delete(Kind kind, Long userId) {
+    redisUtil.deleteData(resultKey(kind, userId));
+  }
+
+  /** 사용자 입력(관심 태그, 미션 완료) 버전 증가 */
+  public void bumpUser(Long userId) {
+    redisUtil.increment(USER_VERSION_KEY_PREFIX + userId);
+  }
+
+  /** 종류별 전역 입력(가게 태그, 미션 목록) 버전 증가 */
+  public void bumpGlobal(Kind kind) {
+    redisUtil.increment(kind.globalVersionKey);
+  }
+
+  private String resultKey(Kind kind, Long userId) {
+    return RESULT_KEY_PREFIX + kind.key + ":" + userId;
+  }
+
+  private String version(Kind kind, String userVersion, String globalVersion) {
+    String version =
+        (userVersion != null ? userVersion : "0")
+            + ":"
+            + (globalVersion != null ? globalVersion : "0");
+    return kind == Kind.MISSION ? version + ":" + LocalDate.now(ZoneId.of("Asia/Seoul")) : version;
+  }
+
+  private <T> Entry<T> decode(String json, TypeReference<Entry<T>> type, Kind kind, Long userId) {
+    if (json == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      log.warn("[RecommendResult] broken entry, recomputing. kind={}, userId={}", kind, userId, e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.infra.openAI.CircuitBreaker;
+import com.likelion.danchu.infra.openAI.OpenAIUtil;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 추천 재랭킹용 임베딩 호출 (지연 예산 + 폴백 메트릭)
+ *
+ * <p>요청 경로에서는 요청 처리 시작부터 {@code openai.rerank.budget-millis} 안에 임베딩이 오지 않으면 재랭킹을 포기하고 1차 순서로 응답합니다.
+ * 예산이 지나도 진행 중인 호출은 계속되어 결과가 캐시에 남으므로 다음 요청은 캐시로 처리됩니다. OpenAI 가 계속 실패하거나 느리면 {@link
+ * CircuitBreaker} 가 호출 자체를 막아 즉시 폴백합니다.
+ *
+ * <p>예산 초과는 JDK 의 지연 스레드(프로세스당 1개)에서 완료되므로, 이어지는 폴백/응답 변환(DB 조회)은 OpenAI 후속 처리 실행기에서 실행합니다.
+ *
+ * <p>메트릭: {@code openai.rerank.fallback} (태그 recommender=store|mission,
+ * reason=budget_exhausted|timeout| circuit_open|error)
+ */
+@Component
+@RequiredArgsConstructor
+public class RerankEmbeddingClient {
+
+  private final OpenAIUtil openAIUtil;
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolTaskExecutor openAiCallbackExecutor;
+
+  @Value("${openai.rerank.budget-millis:800}")
+  private long budgetMillis;
+
+  /**
+   * 지연 예산 안에서 임베딩 (요청 경로용)
+   *
+   * @param recommender 메트릭 태그 (store, mission)
+   * @param startNanos 요청 처리 시작 시각 ({@link System#nanoTime()})
+   */
+  public CompletableFuture<List<float[]>> embedWithinBudget(
+      String recommender, List<String> inputs, long startNanos) {
+    long remaining = budgetMillis - (System.nanoTime() - startNanos) / 1_000_000;
+    if (remaining <= 0) {
+      countFallback(recommender, "budget_exhausted");
+      return CompletableFuture.failedFuture(new TimeoutException("rerank budget exhausted"));
+    }
+    CompletableFuture<List<float[]>> timed =
+        call(inputs).orTimeout(remaining, TimeUnit.MILLISECONDS);
+    // 완료(시간 초과 포함)를 실행기로 옮겨, 이후 단계가 지연 스레드에서 돌지 않도록 함
+    return track(recommender, timed.whenCompleteAsync((vectors, e) -> {}, openAiCallbackExecutor));
+  }
+
+  /** 예산 없이 임베딩 (백그라운드 재계산용) */
+  public CompletableFuture<List<float[]>> embed(String recommender, List<String> inputs) {
+    return track(recommender, call(inputs));
+  }
+
+  private CompletableFuture<List<float[]>> call(List<String> inputs) {
+    try {
+      return openAIUtil.embedAllAsync(inputs);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private CompletableFuture<List<float[]>> track(
+      String recommender, CompletableFuture<List<float[]>> future) {
+    return future.whenComplete(
+        (vectors, e) -> {
+          if (e != null) {
+            countFallback(recommender, reason(e));
+          }
+        });
+  }
+
+  private String reason(Throwable e) {
+    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    if (cause instanceof TimeoutException) {
+      return "timeout";
+    }
+    if (cause instanceof CircuitBreaker.OpenException) {
+      return "circuit_open";
+    }
+    return "error";
+  }
+
+  private void countFallback(String recommender, String reason) {
+    meterRegistry
+        .counter("openai.rerank.fallback", "recommender", recommender, "reason", reason)
+        .increment();
+  }
+}
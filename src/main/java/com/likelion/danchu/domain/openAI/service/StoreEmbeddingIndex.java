@@ -0,0 +1,189 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.store.entity.Store;
+import com.likelion.danchu.domain.store.event.StoreChangedEvent;
+import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
+import com.likelion.danchu.domain.store.repository.StoreRepository;
+import com.likelion.danchu.infra.openAI.FlatVectorStore;
+import com.likelion.danchu.infra.openAI.OpenAIUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게 임베딩 인덱스 (인스턴스 메모리)
+ *
+ * <p>모든 가게의 (설명 + 해시태그) 임베딩을 미리 계산해 두고, 추천 시에는 사용자 벡터 하나로 전체 가게를 검색합니다. 가게 수가 수천 개 이하라 근사 인덱스(HNSW
+ * 등) 대신 전체를 정확히 훑는 방식을 씁니다. (1536차원 × 수천 건도 수 ms 이내)
+ *
+ * <p>재구성 시점: 기동 직후, 가게 생성/삭제/해시태그 변경 커밋 후(비동기), 그리고 다른 인스턴스의 변경 반영을 위해 {@code
+ * openai.store-index.refresh-millis} 주기. 임베딩 캐시를 거치므로 바뀐 가게의 문장만 실제로 임베딩됩니다. 재구성 중에도 검색은 이전 스냅샷을
+ * 사용합니다.
+ *
+ * <p>벡터는 정규화된 float32(또는 {@code openai.store-index.quantize=true} 이면 int8)로 하나의 연속 배열({@link
+ * FlatVectorStore})에 담아 유사도를 내적 한 번으로 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreEmbeddingIndex {
+
+  private static final int EMBED_BATCH_SIZE = 100;
+
+  private final OpenAIUtil openAIUtil;
+  private final StoreRepository storeRepository;
+  private final StoreHashtagRepository storeHashtagRepository;
+
+  private final AtomicLong requestedVersion = new AtomicLong();
+  private final Object rebuildLock = new Object();
+  private long builtVersion = -1;
+
+  @Value("${openai.store-index.quantize:false}")
+  private boolean quantize;
+
+  private volatile Snapshot snapshot = new Snapshot(new long[0], FlatVectorStore.empty(), Map.of());
+
+  /** 검색 결과 (가게 ID, 코사인 유사도) */
+  public record Hit(Long storeId, double similarity) {}
+
+  private record Snapshot(long[] storeIds, FlatVectorStore vectors, Map<Long, Integer> positions) {}
+
+  public boolean isEmpty() {
+    return snapshot.storeIds().length == 0;
+  }
+
+  /**
+   * 질의 벡터와 가장 가까운 가게 상위 k개
+   *
+   * @return 유사도 내림차순 목록
+   */
+  public List<Hit> search(float[] query, int k) {
+    Snapshot s = snapshot;
+    PriorityQueue<Hit> heap = new PriorityQueue<>(Comparator.comparingDouble(Hit::similarity));
+    for (int i = 0; i < s.storeIds().length; i++) {
+      double sim = s.vectors().dot(query, i);
+      if (heap.size() < k) {
+        heap.add(new Hit(s.storeIds()[i], sim));
+      } else if (sim > heap.peek().similarity()) {
+        heap.poll();
+        heap.add(new Hit(s.storeIds()[i], sim));
+      }
+    }
+    List<Hit> out = new ArrayList<>(heap);
+    out.sort(Comparator.comparingDouble(Hit::similarity).reversed());
+    return out;
+  }
+
+  /** 특정 가게와 질의 벡터의 유사도 (인덱스에 없으면 0) */
+  public double similarity(float[] query, Long storeId) {
+    Snapshot s = snapshot;
+    Integer pos = s.positions().get(storeId);
+    return pos == null ? 0.0 : s.vectors().dot(query, pos);
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void onReady() {
+    requestRebuild();
+  }
+
+  @Async
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStoreChanged(StoreChangedEvent event) {
+    requestRebuild();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${openai.store-index.refresh-millis:600000}",
+      initialDelayString = "${openai.store-index.refresh-millis:600000}")
+  public void refresh() {
+    requestRebuild();
+  }
+
+  /** 재구성 요청 (진행 중인 재구성이 있으면 끝난 뒤 한 번만 더 수행) */
+  void requestRebuild() {
+    long target = requestedVersion.incrementAndGet();
+    synchronized (rebuildLock) {
+      if (builtVersion >= target) {
+        return;
+      }
+      long version = requestedVersion.get();
+      try {
+        rebuild();
+        builtVersion = version;
+      } catch (RuntimeException e) {
+        log.warn("[StoreEmbeddingIndex] rebuild failed, keeping previous index", e);
+      }
+    }
+  }
+
+  private void rebuild() {
+    List<Store> stores = storeRepository.findAll();
+    Map<Long, List<String>> storeTagMap =
+        storeHashtagRepository.findAllWithStoreAndHashtag().stream()
+            .collect(
+                Collectors.groupingBy(
+                    sh -> sh.getStore().getId(),
+                    Collectors.mapping(sh -> sh.getHashtag().getName(), Collectors.toList())));
+
+    List<String> texts =
+        stores.stream()
+            .map(s -> storeText(s.getDescription(), storeTagMap.getOrDefault(s.getId(), List.of())))
+            .toList();
+
+    List<float[]> vectors = new ArrayList<>(stores.size());
+    for (int from = 0; from < texts.size(); from += EMBED_BATCH_SIZE) {
+      List<String> batch = texts.subList(from, Math.min(from + EMBED_BATCH_SIZE, texts.size()));
+      List<float[]> embedded = openAIUtil.embedAll(batch);
+      if (embedded.size() != batch.size()) {
+        throw new IllegalStateException("embedding size mismatch: " + embedded.size());
+      }
+      vectors.addAll(embedded);
+    }
+
+    long[] ids = new long[stores.size()];
+    Map<Long, Integer> positions = new HashMap<>();
+    for (int i = 0; i < stores.size(); i++) {
+      ids[i] = stores.get(i).getId();
+      positions.put(ids[i], i);
+    }
+    FlatVectorStore store = FlatVectorStore.of(vectors, quantize);
+    snapshot = new Snapshot(ids, store, Map.copyOf(positions));
+    log.info(
+        "[StoreEmbeddingIndex] rebuilt. stores={}, bytes={}, int8={}",
+        ids.length,
+        store.memoryBytes(),
+        quantize);
+  }
+
+  /** "#태그"들을 공백으로 연결한 문자열 */
+  static String tagText(List<String> tags) {
+    return tags.stream()
+        .map(t -> t.startsWith("#") ? t.substring(1) : t)
+        .collect(Collectors.joining(" "));
+  }
+
+  /** 가게 설명 + 태그 문자열 */
+  static String storeText(String description, List<String> tags) {
+    String desc = description != null ? description : "";
+    return (desc + " " + tagText(tags)).trim();
+  }
+}
@@ -1,15 +1,17 @@
 package com.likelion.danchu.domain.openAI.service;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.likelion.danchu.domain.hashtag.dto.response.HashtagResponse;
 import com.likelion.danchu.domain.hashtag.entity.Hashtag;
 import com.likelion.danchu.domain.hashtag.mapper.HashtagMapper;
-import com.likelion.danchu.domain.mission.entity.Mission;
 import com.likelion.danchu.domain.mission.repository.MissionRepository;
 import com.likelion.danchu.domain.openAI.dto.response.StoreRecommendResponse;
 import com.likelion.danchu.domain.openAI.exception.OpenAIErrorCode;
@@ -17,14 +19,11 @@ import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.entity.StoreHashtag;
 import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
 import com.likelion.danchu.domain.store.repository.StoreRepository;
-import com.likelion.danchu.domain.user.entity.User;
 import com.likelion.danchu.domain.user.entity.UserHashtag;
 import com.likelion.danchu.domain.user.exception.UserErrorCode;
 import com.likelion.danchu.domain.user.repository.UserHashtagRepository;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
-import com.likelion.danchu.global.security.SecurityUtil;
-import com.likelion.danchu.infra.openAI.OpenAIUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,35 +34,67 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class StoreRecommendService {
 
-  private final OpenAIUtil openAIUtil;
   private final UserRepository userRepository;
   private final UserHashtagRepository userHashtagRepository;
   private final MissionRepository missionRepository;
   private final StoreRepository storeRepository;
   private final StoreHashtagRepository storeHashtagRepository;
   private final HashtagMapper hashtagMapper;
+  private final StoreEmbeddingIndex storeEmbeddingIndex;
+  private final StoreTagIndex storeTagIndex;
+  private final RerankEmbeddingClient rerankEmbeddingClient;
 
   private static final int TOP_K = 5;
 
+  // 폴백 메트릭 태그
+  private static final String RECOMMENDER = "store";
+
+  // 인덱스 검색 후보 수
+  private static final int SEARCH_K = 50;
+
+  @Value("${openai.recommend.similarity-weight:0.6}")
+  private double similarityWeight;
+
+  @Value("${openai.recommend.tag-weight:0.3}")
+  private double tagWeight;
+
+  @Value("${openai.recommend.mission-weight:0.1}")
+  private double missionWeight;
+
   /**
-   * 현재 로그인한 사용자의 태그/미션 이력을 바탕으로 상위 5개 가게를 추천합니다.
+   * 사용자의 태그/미션 이력을 바탕으로 상위 5개 가게를 추천합니다.
+   *
+   * <p>매번 새로 계산합니다. API 응답은 {@link RecommendResultService} 가 Redis 에 저장해 둔 결과를 우선 사용합니다.
    *
    * <p>알고리즘 단계:
    *
    * <ol>
-   *   <li><b>1차 후보 선정(내부 로직)</b>: 해시태그 교집합 개수(k1) 우선 → 미션 참여 수(k2) → 가게 ID 내림차순으로 정렬해 최대 5개 선별.
-   *   <li><b>임베딩 재정렬</b>: 사용자 태그 텍스트 vs 후보(설명+태그) 텍스트를 임베딩해 코사인 유사도로 재정렬. 임베딩 호출 실패 시 1차 선정 순서를 그대로
-   *       사용.
+   *   <li><b>1차 후보 선정(내부 로직)</b>: 태그 역색인({@link StoreTagIndex})에서 사용자 태그의 posting 만 합산해 해시태그 교집합
+   *       개수(k1)를 구하고, k1 우선 → 미션 참여 수(k2) → 가게 ID 내림차순으로 크기 5의 힙에서 선별.
+   *   <li><b>벡터 검색 혼합</b>: 사용자 태그 텍스트 임베딩으로 미리 계산된 전체 가게 임베딩({@link StoreEmbeddingIndex})을 검색하고,
+   *       유사도와 k1/k2 를 가중 합산해 최종 5개를 선정. 인덱스가 비었거나 임베딩 호출 실패 시 1차 선정 순서를 그대로 사용.
    *   <li><b>해시태그 배치 조회</b>: N+1 방지를 위해 가게별 해시태그를 일괄 조회하여 DTO에 매핑.
    * </ol>
    *
+   * <p>임베딩 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 결과는 future 로 반환합니다. (캐시 적중 시 이미 완료된 상태)
+   *
+   * @param userId 사용자 ID
    * @return 정렬된 최대 5개의 {@link StoreRecommendResponse} 리스트(순서 보장)
    * @throws CustomException 사용자가 없거나(USER_NOT_FOUND), 사용자 해시태그가 비어 있는 경우(USER_HASHTAG_EMPTY)
    */
-  public List<StoreRecommendResponse> recommendTop5StoresForCurrentUser() {
-    Long userId =
-        Optional.ofNullable(SecurityUtil.getCurrentUserId())
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+  public CompletableFuture<List<StoreRecommendResponse>> recommendFor(Long userId) {
+    return recommend(userId, false).thenApply(BudgetedResult::value);
+  }
+
+  /** 요청 경로용: 임베딩 혼합이 지연 예산을 넘으면 1차 순서로 응답 ({@link RerankEmbeddingClient}) */
+  public CompletableFuture<BudgetedResult<List<StoreRecommendResponse>>> recommendWithinBudget(
+      Long userId) {
+    return recommend(userId, true);
+  }
+
+  private CompletableFuture<BudgetedResult<List<StoreRecommendResponse>>> recommend(
+      Long userId, boolean budgeted) {
+    long startNanos = System.nanoTime();
 
     // 1) 사용자 해시태그
     List<String> userTags =
@@ -71,76 +102,110 @@ public class StoreRecommendService {
             .map(UserHashtag::getHashtag)
             .map(Hashtag::getName)
             .distinct()
+            .sorted() // 임베딩 문장(캐시 키)이 조회 순서와 무관하도록
             .toList();
     if (userTags.isEmpty()) {
       throw new CustomException(OpenAIErrorCode.USER_HASHTAG_EMPTY);
     }
 
     // 2) 사용자 미션 참여 가게 카운트 (storeId -> 참여횟수)
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
-    Map<Long, Long> missionStoreCount = buildMissionStoreCount(user.getCompletedMissionIds());
-
-    // 3) 모든 가게 태그 맵 (storeId -> tagName 리스트)
-    List<StoreHashtag> allStoreTags = storeHashtagRepository.findAllWithStoreAndHashtag();
-    Map<Long, List<String>> storeTagMap =
-        allStoreTags.stream()
-            .collect(
-                Collectors.groupingBy(
-                    sht -> sht.getStore().getId(),
-                    Collectors.mapping(sht -> sht.getHashtag().getName(), Collectors.toList())));
-
-    // 4) 내부 로직으로 1차 후보 5개 뽑기
-    List<Long> candidateIds = pickTop5Candidates(userTags, storeTagMap, missionStoreCount);
-    if (candidateIds.isEmpty()) return List.of();
-
-    // 5) (옵션) 임베딩 유사도로 5개 재정렬 — 실패시 기존 순서 유지
-    List<Store> candidates = storeRepository.findAllById(candidateIds);
-    Map<Long, Store> storeMap = candidates.stream().collect(Collectors.toMap(Store::getId, s -> s));
-
-    String userText = normalizeTags(userTags);
-    List<String> storeTexts = new ArrayList<>();
-    for (Long id : candidateIds) {
-      Store s = storeMap.get(id);
-      List<String> tags = storeTagMap.getOrDefault(id, List.of());
-      storeTexts.add(buildStoreText(s, tags));
+    if (!userRepository.existsById(userId)) {
+      throw new CustomException(UserErrorCode.USER_NOT_FOUND);
     }
+    Map<Long, Long> missionStoreCount = buildMissionStoreCount(userId);
 
-    List<Long> finalOrder = candidateIds;
-    try {
-      List<String> inputs = new ArrayList<>(1 + storeTexts.size());
-      inputs.add(userText);
-      inputs.addAll(storeTexts);
-
-      var vecs = openAIUtil.embedAll(inputs); // [0]은 user, 이후는 store
-      if (vecs.size() == inputs.size()) {
-        double[] u = vecs.get(0);
-        record Rank(Long id, double sim) {}
-        List<Rank> ranks = new ArrayList<>();
-        for (int i = 0; i < candidateIds.size(); i++) {
-          double sim = OpenAIUtil.cosine(u, vecs.get(i + 1));
-          ranks.add(new Rank(candidateIds.get(i), sim));
-        }
-        ranks.sort((a, b) -> Double.compare(b.sim, a.sim));
-        finalOrder = ranks.stream().map(Rank::id).toList();
-      } else {
-        log.warn("[Embeddings] size mismatch: expected={}, got={}", inputs.size(), vecs.size());
-      }
-    } catch (Exception e) {
-      log.warn("[Embeddings] fallback to deterministic order. cause={}", e.toString());
+    // 3) 태그 역색인으로 사용자 태그를 공유하는 가게만 교집합 개수 집계 (storeId -> k1)
+    Map<Long, Integer> tagMatchCount = storeTagIndex.countMatches(userTags);
+
+    // 4) 내부 규칙 점수(k1/k2)로 1차 후보 5개 (임베딩 실패 시 이 순서 사용)
+    List<Long> finalOrder = pickTop5Candidates(tagMatchCount, missionStoreCount);
+    if (finalOrder.isEmpty()) {
+      return CompletableFuture.completedFuture(new BudgetedResult<>(List.of(), false));
+    }
+
+    // 5) 사용자 벡터로 전체 가게 임베딩 인덱스 검색 후 k1/k2 와 혼합 — 실패시 1차 순서 유지
+    if (storeEmbeddingIndex.isEmpty()) {
+      return CompletableFuture.completedFuture(
+          new BudgetedResult<>(toResponses(finalOrder), false));
+    }
+    List<Long> ruleTop = finalOrder;
+    List<String> inputs = List.of(StoreEmbeddingIndex.tagText(userTags)); // 캐시 우선
+    CompletableFuture<List<float[]>> embedded =
+        budgeted
+            ? rerankEmbeddingClient.embedWithinBudget(RECOMMENDER, inputs, startNanos)
+            : rerankEmbeddingClient.embed(RECOMMENDER, inputs);
+    return embedded
+        .thenApply(
+            vecs -> {
+              if (vecs.size() != 1) {
+                log.warn("[Embeddings] size mismatch: expected=1, got={}", vecs.size());
+                return new BudgetedResult<>(ruleTop, false);
+              }
+              return new BudgetedResult<>(
+                  blend(vecs.get(0), userTags.size(), tagMatchCount, missionStoreCount, ruleTop),
+                  false);
+            })
+        .exceptionally(
+            e -> {
+              log.warn("[Embeddings] fallback to deterministic order. cause={}", e.toString());
+              return new BudgetedResult<>(ruleTop, true);
+            })
+        .thenApply(ranked -> ranked.map(this::toResponses));
+  }
+
+  /**
+   * 임베딩이 준비된 상태의 순위 계산 (오프라인 배치용, 요청 경로와 같은 규칙)
+   *
+   * @param userTags 사용자 해시태그 이름 목록(중복 제거)
+   * @param missionStoreCount 가게 ID → 사용자 미션 참여 횟수
+   * @param userVector 사용자 태그 텍스트 임베딩 (null 이면 1차 선정 순서)
+   * @return 최대 5개의 가게 ID
+   */
+  // DB 를 읽지 않으므로 배치 병렬 호출마다 트랜잭션을 열지 않음
+  @Transactional(propagation = Propagation.SUPPORTS)
+  List<Long> rank(List<String> userTags, Map<Long, Long> missionStoreCount, float[] userVector) {
+    Map<Long, Integer> tagMatchCount = storeTagIndex.countMatches(userTags);
+    List<Long> ruleTop = pickTop5Candidates(tagMatchCount, missionStoreCount);
+    if (ruleTop.isEmpty() || userVector == null || storeEmbeddingIndex.isEmpty()) {
+      return ruleTop;
     }
+    return blend(userVector, userTags.size(), tagMatchCount, missionStoreCount, ruleTop);
+  }
 
-    // 6) 해시태그를 배치 조회하여 DTO에 매핑(N+1 방지)
-    List<StoreHashtag> tagRows = storeHashtagRepository.findByStore_IdIn(finalOrder);
-    Map<Long, List<Hashtag>> hashtagEntitiesByStore =
-        tagRows.stream()
-            .collect(
-                Collectors.groupingBy(
-                    sh -> sh.getStore().getId(),
-                    Collectors.mapping(StoreHashtag::getHashtag, Collectors.toList())));
+  /** 최종 순서대로 가게 + 해시태그를 배치 조회하여 DTO로 변환 (N+1 방지) */
+  private List<StoreRecommendResponse> toResponses(List<Long> finalOrder) {
+    Map<Long, Store> storeMap =
+        storeRepository.findAllById(finalOrder).stream()
+            .collect(Collectors.toMap(Store::getId, s -> s));
 
+    // 임베딩 응답 이후 OpenAI 후속 처리 실행기에서 실행될 수 있으므로 해시태그까지 fetch join 으로 한 번에 로딩
+    List<StoreHashtag> tagRows = storeHashtagRepository.findWithHashtagByStoreIdIn(finalOrder);
+    return toResponses(finalOrder, storeMap, groupHashtags(tagRows));
+  }
+
+  /** 전체 가게의 응답 DTO (가게 ID → DTO, 오프라인 배치용) */
+  Map<Long, StoreRecommendResponse> loadAllResponses() {
+    List<Store> stores = storeRepository.findAll();
+    Map<Long, Store> storeMap = stores.stream().collect(Collectors.toMap(Store::getId, s -> s));
+    List<Long> ids = stores.stream().map(Store::getId).toList();
+    return toResponses(
+            ids, storeMap, groupHashtags(storeHashtagRepository.findAllWithStoreAndHashtag()))
+        .stream()
+        .collect(Collectors.toMap(StoreRecommendResponse::getId, r -> r));
+  }
+
+  private Map<Long, List<Hashtag>> groupHashtags(List<StoreHashtag> tagRows) {
+    return tagRows.stream()
+        .collect(
+            Collectors.groupingBy(
+                sh -> sh.getStore().getId(),
+                Collectors.mapping(StoreHashtag::getHashtag, Collectors.toList())));
+  }
+
+  private List<StoreRecommendResponse> toResponses(
+      List<Long> finalOrder,
+      Map<Long, Store> storeMap,
+      Map<Long, List<Hashtag>> hashtagEntitiesByStore) {
     List<StoreRecommendResponse> out = new ArrayList<>(finalOrder.size());
     for (Long id : finalOrder) {
       Store s = storeMap.get(id);
@@ -170,16 +235,71 @@ public class StoreRecommendService {
   }
 
   /**
-   * 사용자가 완료한 미션 목록을 바탕으로 가게별 미션 참여 횟수를 집계합니다.
+   * 사용자가 완료한 미션 목록을 바탕으로 가게별 미션 참여 횟수를 집계합니다. (보관 테이블로 옮겨진 지난 미션 포함)
    *
-   * @param completedMissionIds 사용자 완료 미션 ID 목록 (null 또는 빈 리스트 가능)
+   * @param userId 사용자 ID
    * @return 가게 ID → 미션 참여 횟수 맵(없으면 빈 맵)
    */
-  private Map<Long, Long> buildMissionStoreCount(List<Long> completedMissionIds) {
-    if (completedMissionIds == null || completedMissionIds.isEmpty()) return Map.of();
-    List<Mission> missions = missionRepository.findAllById(completedMissionIds);
-    return missions.stream()
-        .collect(Collectors.groupingBy(m -> m.getStore().getId(), Collectors.counting()));
+  private Map<Long, Long> buildMissionStoreCount(Long userId) {
+    return missionRepository.countCompletedByStoreForUser(userId).stream()
+        .collect(
+            Collectors.toMap(
+                r -> ((Number) r[0]).longValue(), // storeId
+                r -> ((Number) r[1]).longValue() // 참여 횟수
+                ));
+  }
+
+  /** 가게별 내부 규칙 점수 (k1: 태그 교집합 수, k2: 미션 참여 횟수) */
+  private record Score(long id, int k1, long k2) {}
+
+  /** 내부 규칙 오름차순 (k1, k2, id) — 힙에서는 가장 약한 후보가 맨 앞 */
+  private static final Comparator<Score> RULE_ORDER =
+      Comparator.comparingInt(Score::k1).thenComparingLong(Score::k2).thenComparingLong(Score::id);
+
+  /**
+   * 벡터 검색 결과와 내부 규칙 점수를 혼합해 최종 5개를 고릅니다.
+   *
+   * <p>후보: 인덱스 검색 상위 {@value #SEARCH_K}개 ∪ 1차 후보. 점수: {@code similarityWeight × 코사인 + tagWeight ×
+   * (k1 / 사용자 태그 수) + missionWeight × (k2 / 후보 중 최대 k2)}, 동점이면 가게 ID 내림차순.
+   */
+  private List<Long> blend(
+      float[] userVector,
+      int userTagCount,
+      Map<Long, Integer> tagMatchCount,
+      Map<Long, Long> missionStoreCount,
+      List<Long> ruleTop) {
+    Map<Long, Double> similarity = new LinkedHashMap<>();
+    for (StoreEmbeddingIndex.Hit hit : storeEmbeddingIndex.search(userVector, SEARCH_K)) {
+      similarity.put(hit.storeId(), hit.similarity());
+    }
+    for (Long id : ruleTop) {
+      similarity.computeIfAbsent(id, k -> storeEmbeddingIndex.similarity(userVector, k));
+    }
+
+    long maxK2 =
+        similarity.keySet().stream()
+            .mapToLong(id -> missionStoreCount.getOrDefault(id, 0L))
+            .max()
+            .orElse(0L);
+
+    record Blended(Long id, double score) {}
+    return similarity.entrySet().stream()
+        .map(
+            e -> {
+              double tag = (double) tagMatchCount.getOrDefault(e.getKey(), 0) / userTagCount;
+              long k2 = missionStoreCount.getOrDefault(e.getKey(), 0L);
+              double mission = maxK2 == 0 ? 0.0 : (double) k2 / maxK2;
+              double score =
+                  similarityWeight * e.getValue() + tagWeight * tag + missionWeight * mission;
+              return new Blended(e.getKey(), score);
+            })
+        .sorted(
+            Comparator.comparingDouble(Blended::score)
+                .reversed()
+                .thenComparing(Blended::id, Comparator.reverseOrder()))
+        .limit(TOP_K)
+        .map(Blended::id)
+        .toList();
   }
 
   /**
@@ -197,85 +317,59 @@ public class StoreRecommendService {
    * <ol>
    *   <li>k1 &gt; 0인 가게들 중 위 규칙으로 최대 5개
    *   <li>부족 시 k1==0 &amp;&amp; k2&gt;0 인 가게 추가
-   *   <li>그래도 부족하면 id 내림차순으로 채움
+   *   <li>그래도 부족하면 태그가 있는 가게를 id 내림차순으로 채움
    * </ol>
    *
-   * @param userTags 사용자 해시태그 목록(중복 제거 권장)
-   * @param storeTagMap 가게 ID → 가게 해시태그 명 리스트
+   * <p>각 단계는 크기 5의 힙으로 고르므로 정렬 비용이 후보 수에 비례하지 않습니다.
+   *
+   * @param tagMatchCount 가게 ID → 사용자 태그 교집합 개수 (1 이상인 가게만)
    * @param missionStoreCount 가게 ID → 사용자 미션 참여 횟수
    * @return 조건에 맞는 가게 ID 최대 5개(정렬된 상태)
    */
   private List<Long> pickTop5Candidates(
-      List<String> userTags,
-      Map<Long, List<String>> storeTagMap,
-      Map<Long, Long> missionStoreCount) {
-
-    Set<String> u = new HashSet<>(userTags);
-    record Sc(long id, int k1, long k2) {}
-    List<Sc> all =
-        storeTagMap.entrySet().stream()
-            .map(
-                e -> {
-                  int k1 = (int) e.getValue().stream().filter(u::contains).count();
-                  long k2 = missionStoreCount.getOrDefault(e.getKey(), 0L);
-                  return new Sc(e.getKey(), k1, k2);
-                })
-            .toList();
+      Map<Long, Integer> tagMatchCount, Map<Long, Long> missionStoreCount) {
 
-    // 1) k1>0만 먼저 뽑기
-    List<Long> out =
-        all.stream()
-            .filter(sc -> sc.k1 > 0)
-            .sorted(
-                (a, b) -> {
-                  int c = Integer.compare(b.k1, a.k1);
-                  if (c != 0) return c;
-                  c = Long.compare(b.k2, a.k2);
-                  if (c != 0) return c;
-                  return Long.compare(b.id, a.id);
-                })
-            .limit(TOP_K)
-            .map(sc -> sc.id)
-            .collect(Collectors.toCollection(ArrayList::new));
+    // 1) k1>0 (태그를 공유하는 가게)만 먼저 뽑기
+    List<Score> matched = new ArrayList<>(tagMatchCount.size());
+    tagMatchCount.forEach(
+        (id, k1) -> matched.add(new Score(id, k1, missionStoreCount.getOrDefault(id, 0L))));
+    List<Long> out = topK(matched, TOP_K);
 
     // 2) 부족하면 k1==0, k2>0(미션 참여)로 채우기
     if (out.size() < TOP_K) {
-      all.stream()
-          .filter(sc -> sc.k1 == 0 && sc.k2 > 0 && !out.contains(sc.id))
-          .sorted(
-              (a, b) -> {
-                int c = Long.compare(b.k2, a.k2);
-                if (c != 0) return c;
-                return Long.compare(b.id, a.id);
-              })
-          .limit(TOP_K - out.size())
-          .map(sc -> sc.id)
-          .forEach(out::add);
+      List<Score> missionOnly = new ArrayList<>();
+      missionStoreCount.forEach(
+          (id, k2) -> {
+            if (k2 > 0 && !tagMatchCount.containsKey(id) && storeTagIndex.contains(id)) {
+              missionOnly.add(new Score(id, 0, k2));
+            }
+          });
+      out.addAll(topK(missionOnly, TOP_K - out.size()));
     }
 
     // 3) 그래도 부족하면 id 내림차순으로 채우기(완전 보강)
-    if (out.size() < TOP_K) {
-      all.stream()
-          .filter(sc -> !out.contains(sc.id))
-          .sorted((a, b) -> Long.compare(b.id, a.id))
-          .limit(TOP_K - out.size())
-          .map(sc -> sc.id)
-          .forEach(out::add);
+    long[] storeIds = storeTagIndex.storeIds();
+    for (int i = storeIds.length - 1; i >= 0 && out.size() < TOP_K; i--) {
+      if (!out.contains(storeIds[i])) {
+        out.add(storeIds[i]);
+      }
     }
     return out;
   }
 
-  /** "#태그"들을 공백으로 연결한 사용자 텍스트 */
-  private String normalizeTags(List<String> tags) {
-    return tags.stream()
-        .map(t -> t.startsWith("#") ? t.substring(1) : t)
-        .collect(Collectors.joining(" "));
-  }
-
-  /** 가게 설명 + 태그 문자열 */
-  private String buildStoreText(Store s, List<String> tags) {
-    String desc = (s != null && s.getDescription() != null) ? s.getDescription() : "";
-    String tagStr = normalizeTags(tags);
-    return (desc + " " + tagStr).trim();
+  /** 내부 규칙 상위 k개 (크기 k의 최소 힙) */
+  private static List<Long> topK(List<Score> scores, int k) {
+    PriorityQueue<Score> heap = new PriorityQueue<>(RULE_ORDER);
+    for (Score sc : scores) {
+      if (heap.size() < k) {
+        heap.add(sc);
+      } else if (RULE_ORDER.compare(sc, heap.peek()) > 0) {
+        heap.poll();
+        heap.add(sc);
+      }
+    }
+    List<Score> top = new ArrayList<>(heap);
+    top.sort(RULE_ORDER.reversed());
+    return top.stream().map(Score::id).collect(Collectors.toCollection(ArrayList::new));
   }
 }
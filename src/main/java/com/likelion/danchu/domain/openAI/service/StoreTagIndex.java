@@ -0,0 +1,124 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.store.event.StoreChangedEvent;
+import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시태그 → 가게 역색인 (인스턴스 메모리)
+ *
+ * <p>태그 이름별로 그 태그를 가진 가게 ID 목록(posting list)을 들고 있어, 추천 시 사용자 태그의 posting 만 훑어 가게별 교집합 개수를 셉니다.
+ * 사용자와 태그를 하나도 공유하지 않는 가게는 건드리지 않습니다.
+ *
+ * <p>재구성 시점: 기동 직후, 가게 생성/삭제/해시태그 변경 커밋 후(비동기), 그리고 다른 인스턴스의 변경 반영을 위해 {@code
+ * openai.store-tag-index.refresh-millis} 주기. (가게 ID, 태그 이름) 쌍만 조회하므로 엔티티를 올리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreTagIndex {
+
+  private final StoreHashtagRepository storeHashtagRepository;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * @param postings 태그 이름 → 가게 ID 목록(중복 없음)
+   * @param storeIds 태그가 하나 이상 있는 가게 ID (오름차순)
+   */
+  private record Snapshot(Map<String, long[]> postings, long[] storeIds) {}
+
+  /**
+   * 사용자 태그와 겹치는 가게별 태그 개수
+   *
+   * @param userTags 사용자 해시태그 이름 목록
+   * @return 가게 ID → 교집합 개수 (1 이상인 가게만)
+   */
+  public Map<Long, Integer> countMatches(Collection<String> userTags) {
+    Map<String, long[]> postings = current().postings();
+    Map<Long, Integer> counts = new HashMap<>();
+    for (String tag : new HashSet<>(userTags)) {
+      for (long storeId : postings.getOrDefault(tag, new long[0])) {
+        counts.merge(storeId, 1, Integer::sum);
+      }
+    }
+    return counts;
+  }
+
+  /** 태그가 하나 이상 등록된 가게인지 */
+  public boolean contains(long storeId) {
+    return Arrays.binarySearch(current().storeIds(), storeId) >= 0;
+  }
+
+  /** 태그가 하나 이상 등록된 가게 ID (오름차순, 복사본 아님 — 수정 금지) */
+  public long[] storeIds() {
+    return current().storeIds();
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void onReady() {
+    rebuild();
+  }
+
+  @Async
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStoreChanged(StoreChangedEvent event) {
+    rebuild();
+  }
+
+  @Scheduled(
+      fixedDelayString = "${openai.store-tag-index.refresh-millis:600000}",
+      initialDelayString = "${openai.store-tag-index.refresh-millis:600000}")
+  public void refresh() {
+    rebuild();
+  }
+
+  private Snapshot current() {
+    Snapshot s = snapshot;
+    if (s == null) {
+      synchronized (this) {
+        if (snapshot == null) {
+          rebuild();
+        }
+        s = snapshot;
+      }
+    }
+    return s;
+  }
+
+  synchronized void rebuild() {
+    Map<String, Set<Long>> grouped = new HashMap<>();
+    Set<Long> storeIds = new TreeSet<>();
+    for (Object[] row : storeHashtagRepository.findAllStoreIdAndHashtagName()) {
+      long storeId = ((Number) row[0]).longValue();
+      grouped.computeIfAbsent((String) row[1], k -> new HashSet<>()).add(storeId);
+      storeIds.add(storeId);
+    }
+
+    Map<String, long[]> postings = new HashMap<>();
+    grouped.forEach(
+        (tag, ids) -> postings.put(tag, ids.stream().mapToLong(Long::longValue).toArray()));
+    snapshot =
+        new Snapshot(Map.copyOf(postings), storeIds.stream().mapToLong(Long::longValue).toArray());
+    log.debug("[StoreTagIndex] rebuilt. tags={}, stores={}", postings.size(), storeIds.size());
+  }
+}
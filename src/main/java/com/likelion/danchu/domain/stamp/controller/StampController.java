@@ -4,6 +4,7 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,12 +12,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.likelion.danchu.domain.coupon.dto.response.CouponResponse;
 import com.likelion.danchu.domain.stamp.dto.request.StampRequest;
 import com.likelion.danchu.domain.stamp.dto.response.StampResponse;
+import com.likelion.danchu.domain.stamp.dto.response.StampSummaryResponse;
 import com.likelion.danchu.domain.stamp.service.StampService;
+import com.likelion.danchu.domain.stamp.service.StampVersionService;
 import com.likelion.danchu.global.response.BaseResponse;
+import com.likelion.danchu.global.security.SecurityUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,6 +35,7 @@ import lombok.RequiredArgsConstructor;
 public class StampController {
 
   private final StampService stampService;
+  private final StampVersionService stampVersionService;
 
   @Operation(
       summary = "스탬프 적립 또는 새 카드 생성",
@@ -106,10 +112,44 @@ public class StampController {
       - 정렬: updatedAt DESC (마지막 적립/상태변경 시점이 최신일수록 먼저)
       - 반환: id, storeName, reward, currentCount, cardNum, status
       - 비고: 없으면 빈 배열([]) 반환
+      - 비고: 응답에 **ETag** 가 포함되며, **If-None-Match** 로 보내면 변경이 없을 때 **304 Not Modified** 를 반환합니다.
       """)
   @GetMapping("")
-  public ResponseEntity<BaseResponse<List<StampResponse>>> getMyStamps() {
+  public ResponseEntity<BaseResponse<List<StampResponse>>> getMyStamps(WebRequest webRequest) {
+    // 변경이 없으면(If-None-Match 일치) DB 조회 없이 304 반환
+    String eTag = stampVersionService.getETag(SecurityUtil.getCurrentUserId(), "list");
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
     List<StampResponse> response = stampService.getMyStamps();
-    return ResponseEntity.ok(BaseResponse.success("스탬프카드 목록 조회 성공", response));
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .body(BaseResponse.success("스탬프카드 목록 조회 성공", response));
+  }
+
+  @Operation(
+      summary = "내 스탬프카드 개수 요약",
+      description =
+          """
+      현재 로그인한 사용자의 스탬프카드를 **개수 위주로 요약**해 반환합니다. (로그인 필요)
+
+      - 반환: 상태별 카드 수, 완성한 카드 수, 카드별 id/storeId/currentCount/status
+      - 비고: 응답에 **ETag** 가 포함되며, **If-None-Match** 로 보내면 변경이 없을 때 **304 Not Modified** 를 반환합니다.
+      """)
+  @GetMapping("/summary")
+  public ResponseEntity<BaseResponse<StampSummaryResponse>> getMyStampSummary(
+      WebRequest webRequest) {
+    String eTag = stampVersionService.getETag(SecurityUtil.getCurrentUserId(), "summary");
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
+    StampSummaryResponse response = stampService.getMyStampSummary();
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .body(BaseResponse.success("스탬프카드 요약 조회 성공", response));
   }
 }
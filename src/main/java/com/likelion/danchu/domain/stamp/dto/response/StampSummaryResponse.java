@@ -0,0 +1,45 @@
+package com.likelion.danchu.domain.stamp.dto.response;
+
+import java.util.List;
+
+import com.likelion.danchu.domain.stamp.entity.StampStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "StampSummaryResponse DTO", description = "스탬프카드 개수 요약 응답")
+public class StampSummaryResponse {
+
+  @Schema(description = "적립 진행 중인 카드 수", example = "3")
+  private int inProgressCount;
+
+  @Schema(description = "보상 수령 대기 중인 카드 수", example = "1")
+  private int readyToClaimCount;
+
+  @Schema(description = "지금까지 완성한 스탬프카드 수 (전체 카드 합계)", example = "5")
+  private int completedCardCount;
+
+  @Schema(description = "카드별 요약 (최근 수정 순)")
+  private List<Item> stamps;
+
+  @Getter
+  @Builder
+  @Schema(title = "StampSummaryResponse.Item DTO", description = "카드별 개수 요약")
+  public static class Item {
+
+    @Schema(description = "스탬프 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "가게 ID", example = "1")
+    private Long storeId;
+
+    @Schema(description = "현재 스탬프카드의 스탬프 개수", example = "6")
+    private int currentCount;
+
+    @Schema(description = "스탬프카드 상태", example = "IN_PROGRESS")
+    private StampStatus status;
+  }
+}
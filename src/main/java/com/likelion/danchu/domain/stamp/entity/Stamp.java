@@ -8,9 +8,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.user.entity.User;
@@ -27,13 +29,21 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "stamp")
+@Table(
+    name = "stamp",
+    indexes =
+        @Index(name = "idx_stamp_user_status_updated", columnList = "user_id, status, updated_at"))
 public class Stamp extends BaseTimeEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
+  // 낙관적 락 버전 (동시 수정 시 커밋 단계에서 충돌 감지)
+  @Version
+  @Column(name = "version", nullable = false)
+  private Long version;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
@@ -0,0 +1,9 @@
+package com.likelion.danchu.domain.stamp.event;
+
+/**
+ * 스탬프 1개가 적립되었음을 알리는 이벤트 (새 카드 생성 포함)
+ *
+ * @param userId 적립한 사용자 ID
+ * @param storeId 적립한 가게 ID
+ */
+public record StampAccruedEvent(Long userId, Long storeId) {}
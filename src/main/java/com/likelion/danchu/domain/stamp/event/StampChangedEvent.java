@@ -0,0 +1,15 @@
+package com.likelion.danchu.domain.stamp.event;
+
+import java.util.List;
+
+/**
+ * 스탬프카드 응답이 달라지는 변경(적립/수령/카드 삭제/닉네임 변경 등)이 발생했음을 알리는 이벤트
+ *
+ * @param userIds 스탬프카드 목록이 바뀐 사용자 ID 목록
+ */
+public record StampChangedEvent(List<Long> userIds) {
+
+  public static StampChangedEvent of(Long userId) {
+    return new StampChangedEvent(List.of(userId));
+  }
+}
@@ -0,0 +1,30 @@
+package com.likelion.danchu.domain.stamp.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.stamp.service.StampVersionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** 커밋이 확정된 스탬프 변경에 대해서만 사용자별 버전을 올립니다. (롤백된 변경으로 ETag가 바뀌지 않도록) */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StampVersionEventListener {
+
+  private final StampVersionService stampVersionService;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStampChanged(StampChangedEvent event) {
+    for (Long userId : event.userIds()) {
+      try {
+        stampVersionService.bump(userId);
+      } catch (RuntimeException e) {
+        log.warn("[StampVersion] bump failed. userId={}", userId, e);
+      }
+    }
+  }
+}
@@ -1,12 +1,17 @@
 package com.likelion.danchu.domain.stamp.mapper;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
 import com.likelion.danchu.domain.stamp.dto.response.StampResponse;
+import com.likelion.danchu.domain.stamp.dto.response.StampSummaryResponse;
 import com.likelion.danchu.domain.stamp.entity.Stamp;
+import com.likelion.danchu.domain.stamp.entity.StampStatus;
+import com.likelion.danchu.domain.stamp.repository.StampRepository.StampCardProjection;
+import com.likelion.danchu.domain.stamp.repository.StampRepository.StampSummaryProjection;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.user.entity.User;
 
@@ -30,7 +35,50 @@ public class StampMapper {
         .build();
   }
 
-  public List<StampResponse> toResponseList(List<Stamp> stamps) {
-    return stamps.stream().map(this::toResponse).collect(Collectors.toList());
+  public StampResponse toResponse(StampCardProjection card) {
+    return StampResponse.builder()
+        .id(card.getId())
+        .storeName(card.getStoreName())
+        .reward(card.getReward())
+        .currentCount(card.getCount() % 10)
+        .cardNum(card.getCount() / 10)
+        .status(card.getStatus())
+        .nickname(card.getNickname())
+        .authCode(card.getAuthCode())
+        .build();
+  }
+
+  public List<StampResponse> toResponseList(List<StampCardProjection> cards) {
+    return cards.stream().map(this::toResponse).collect(Collectors.toList());
+  }
+
+  public StampSummaryResponse toSummaryResponse(List<StampSummaryProjection> cards) {
+    int inProgress = 0;
+    int readyToClaim = 0;
+    int completedCards = 0;
+    List<StampSummaryResponse.Item> items = new ArrayList<>(cards.size());
+
+    for (StampSummaryProjection card : cards) {
+      if (card.getStatus() == StampStatus.IN_PROGRESS) {
+        inProgress++;
+      } else if (card.getStatus() == StampStatus.READY_TO_CLAIM) {
+        readyToClaim++;
+      }
+      completedCards += card.getCount() / 10;
+      items.add(
+          StampSummaryResponse.Item.builder()
+              .id(card.getId())
+              .storeId(card.getStoreId())
+              .currentCount(card.getCount() % 10)
+              .status(card.getStatus())
+              .build());
+    }
+
+    return StampSummaryResponse.builder()
+        .inProgressCount(inProgress)
+        .readyToClaimCount(readyToClaim)
+        .completedCardCount(completedCards)
+        .stamps(items)
+        .build();
   }
 }
@@ -3,20 +3,110 @@ package com.likelion.danchu.domain.stamp.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.likelion.danchu.domain.stamp.entity.Stamp;
+import com.likelion.danchu.domain.stamp.entity.StampStatus;
 
 @Repository
 public interface StampRepository extends JpaRepository<Stamp, Long> {
 
   Optional<Stamp> findTopByUser_IdAndStore_IdOrderByIdDesc(Long userId, Long storeId);
 
-  List<Stamp> findAllByUser_IdOrderByUpdatedAtDesc(Long userId);
-
   void deleteAllByUser_Id(Long userId);
 
   // 해당 가게의 스탬프 전부 삭제 (가게 삭제 시 연관 정리용)
   void deleteByStore_Id(Long storeId);
+
+  // 해당 가게의 스탬프카드를 가진 사용자 ID 목록 (가게 삭제 시 사용자별 버전 갱신용)
+  @Query("select distinct s.user.id from Stamp s where s.store.id = :storeId")
+  List<Long> findUserIdsByStoreId(@Param("storeId") Long storeId);
+
+  /** 스탬프카드 개수 요약에 필요한 컬럼만 담는 Projection (User/Store 조인 없음) */
+  interface StampSummaryProjection {
+
+    Long getId();
+
+    Long getStoreId();
+
+    int getCount();
+
+    StampStatus getStatus();
+  }
+
+  @Query(
+      """
+            select s.id as id,
+                   s.store.id as storeId,
+                   s.count as count,
+                   s.status as status
+            from Stamp s
+            where s.user.id = :userId
+            order by s.updatedAt desc
+          """)
+  List<StampSummaryProjection> findSummariesByUserId(@Param("userId") Long userId);
+
+  /** 스탬프카드 응답에 필요한 컬럼만 담는 Projection (User/Store 엔티티를 로딩하지 않음) */
+  interface StampCardProjection {
+
+    Long getId();
+
+    String getStoreName();
+
+    String getReward();
+
+    int getCount();
+
+    StampStatus getStatus();
+
+    String getNickname();
+
+    String getAuthCode();
+  }
+
+  /**
+   * 완성 임박 카드 조회: 지정 상태의 카드 중 (count % 10) 내림차순 → updatedAt 내림차순 정렬.
+   *
+   * <p>(user_id, status, updated_at) 인덱스로 대상 카드를 좁히고, 호출 측에서 1건만 요청합니다.
+   */
+  @Query(
+      """
+            select s.id as id,
+                   st.name as storeName,
+                   s.reward as reward,
+                   s.count as count,
+                   s.status as status,
+                   u.nickname as nickname,
+                   st.authCode as authCode
+            from Stamp s
+              join s.store st
+              join s.user u
+            where u.id = :userId
+              and s.status = :status
+            order by mod(s.count, 10) desc, s.updatedAt desc
+          """)
+  List<StampCardProjection> findMostExpiring(
+      @Param("userId") Long userId, @Param("status") StampStatus status, Pageable pageable);
+
+  /** 사용자의 전체 스탬프카드를 최근 수정 순으로 조회 (가게/사용자 정보를 한 번에 조인) */
+  @Query(
+      """
+            select s.id as id,
+                   st.name as storeName,
+                   s.reward as reward,
+                   s.count as count,
+                   s.status as status,
+                   u.nickname as nickname,
+                   st.authCode as authCode
+            from Stamp s
+              join s.store st
+              join s.user u
+            where u.id = :userId
+            order by s.updatedAt desc
+          """)
+  List<StampCardProjection> findCardsByUserId(@Param("userId") Long userId);
 }
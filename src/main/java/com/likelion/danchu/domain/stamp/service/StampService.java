@@ -1,28 +1,35 @@
 package com.likelion.danchu.domain.stamp.service;
 
-import java.util.Comparator;
 import java.util.List;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.likelion.danchu.domain.coupon.dto.response.CouponResponse;
 import com.likelion.danchu.domain.coupon.service.CouponService;
 import com.likelion.danchu.domain.stamp.dto.request.StampRequest;
 import com.likelion.danchu.domain.stamp.dto.response.StampResponse;
+import com.likelion.danchu.domain.stamp.dto.response.StampSummaryResponse;
 import com.likelion.danchu.domain.stamp.entity.Stamp;
 import com.likelion.danchu.domain.stamp.entity.StampStatus;
+import com.likelion.danchu.domain.stamp.event.StampAccruedEvent;
+import com.likelion.danchu.domain.stamp.event.StampChangedEvent;
 import com.likelion.danchu.domain.stamp.exception.StampErrorCode;
 import com.likelion.danchu.domain.stamp.mapper.StampMapper;
 import com.likelion.danchu.domain.stamp.repository.StampRepository;
+import com.likelion.danchu.domain.stamp.repository.StampRepository.StampCardProjection;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.repository.StoreRepository;
 import com.likelion.danchu.domain.user.entity.User;
 import com.likelion.danchu.domain.user.exception.UserErrorCode;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.retry.RetryOnConflict;
 import com.likelion.danchu.global.security.SecurityUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -37,6 +44,7 @@ public class StampService {
   private final StampMapper stampMapper;
   private final StoreRepository storeRepository;
   private final CouponService couponService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 인증코드로 가게를 식별해 스탬프를 생성/적립합니다.
@@ -54,6 +62,7 @@ public class StampService {
    * @return 적립 또는 생성된 스탬프카드의 응답 DTO
    * @throws CustomException 잘못된 인증코드, 사용자/가게 미존재, 이미 수령 대기 상태, 잘못된 상태, 저장 실패 등
    */
+  @RetryOnConflict
   public StampResponse createOrAccumulate(StampRequest request) {
     try {
       // 1) 현재 로그인 사용자 조회
@@ -79,6 +88,8 @@ public class StampService {
         // 3-1) 없으면 새로 스탬프카드 생성 (보상은 가게 정책에 맞게 매핑)
         Stamp created = stampMapper.toEntity(user, store);
         Stamp saved = stampRepository.save(created);
+        eventPublisher.publishEvent(StampChangedEvent.of(user.getId()));
+        eventPublisher.publishEvent(new StampAccruedEvent(user.getId(), store.getId()));
         return stampMapper.toResponse(saved);
       }
 
@@ -94,13 +105,16 @@ public class StampService {
           latest.updateStatus(StampStatus.READY_TO_CLAIM);
         }
         latest = stampRepository.save(latest);
+        eventPublisher.publishEvent(StampChangedEvent.of(user.getId()));
+        eventPublisher.publishEvent(new StampAccruedEvent(user.getId(), store.getId()));
 
         return stampMapper.toResponse(latest);
       }
       throw new CustomException(StampErrorCode.INVALID_STAMP_STATUS);
 
-    } catch (CustomException ce) {
-      throw ce;
+    } catch (CustomException | OptimisticLockingFailureException e) {
+      // 버전 충돌은 @RetryOnConflict 가 재시도하도록 그대로 전파
+      throw e;
     } catch (DataAccessException dae) {
       throw new CustomException(StampErrorCode.STAMP_SAVE_FAILED);
     } catch (Exception e) {
@@ -117,6 +131,7 @@ public class StampService {
    * @throws CustomException USER_NOT_FOUND, STAMP_NOT_FOUND, STAMP_OWNER_MISMATCH,
    *     STAMP_NOT_READY_TO_CLAIM, STAMP_SAVE_FAILED, STORE_NOT_FOUND, COUPON_SAVE_FAILED
    */
+  @RetryOnConflict
   public CouponResponse claimReward(Long stampId) {
     // 1) 현재 로그인 사용자
     Long userId = SecurityUtil.getCurrentUserId();
@@ -149,11 +164,12 @@ public class StampService {
       // 5) 스탬프카드 다음 라운드로
       stamp.updateStatus(StampStatus.IN_PROGRESS);
       stampRepository.save(stamp);
+      eventPublisher.publishEvent(StampChangedEvent.of(user.getId()));
 
       return coupon;
 
-    } catch (CustomException ce) {
-      throw ce;
+    } catch (CustomException | OptimisticLockingFailureException e) {
+      throw e;
     } catch (RuntimeException e) {
       throw new CustomException(StampErrorCode.STAMP_SAVE_FAILED);
     }
@@ -172,25 +188,16 @@ public class StampService {
   public StampResponse getMostExpiringStamp() {
     // 1) 현재 로그인 사용자
     Long userId = SecurityUtil.getCurrentUserId();
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
+    if (!userRepository.existsById(userId)) {
+      throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+    }
 
     try {
-      // 2) 유저의 모든 스탬프 카드 조회 (최근 수정 순으로 가져오면 tie-break에 유리)
-      List<Stamp> stamps = stampRepository.findAllByUser_IdOrderByUpdatedAtDesc(user.getId());
-
-      // 3) IN_PROGRESS만 대상으로, currentCount DESC → updatedAt DESC 로 1개 선택
-      Stamp candidate =
-          stamps.stream()
-              .filter(s -> s.getStatus() == StampStatus.IN_PROGRESS)
-              .max(
-                  Comparator.comparingInt(Stamp::getCurrentCount) // 1순위: count%10
-                      .thenComparing(Stamp::getUpdatedAt)) // 2순위: updatedAt
-              .orElse(null);
+      // 2) IN_PROGRESS 카드 중 currentCount DESC → updatedAt DESC 1건을 DB에서 바로 선택
+      List<StampCardProjection> candidates =
+          stampRepository.findMostExpiring(userId, StampStatus.IN_PROGRESS, PageRequest.of(0, 1));
 
-      return candidate == null ? null : stampMapper.toResponse(candidate);
+      return candidates.isEmpty() ? null : stampMapper.toResponse(candidates.get(0));
 
     } catch (CustomException ce) {
       throw ce;
@@ -215,8 +222,28 @@ public class StampService {
             .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
 
     try {
-      List<Stamp> stamps = stampRepository.findAllByUser_IdOrderByUpdatedAtDesc(user.getId());
-      return stampMapper.toResponseList(stamps);
+      return stampMapper.toResponseList(stampRepository.findCardsByUserId(user.getId()));
+    } catch (RuntimeException e) {
+      throw new CustomException(StampErrorCode.STAMP_FETCH_FAILED);
+    }
+  }
+
+  /**
+   * 현재 로그인 사용자의 스탬프카드 개수 요약을 조회합니다.
+   *
+   * <p>카드 목록 화면 없이 개수만 필요한 경우(홈 배지 등)를 위한 경량 응답으로, 가게/사용자 조인 없이 카드 컬럼만 읽습니다.
+   *
+   * @return StampSummaryResponse 상태별 카드 수와 카드별 현재 개수
+   * @throws CustomException 사용자 미존재 또는 DB 조회 중 오류가 발생한 경우
+   */
+  public StampSummaryResponse getMyStampSummary() {
+    Long userId = SecurityUtil.getCurrentUserId();
+    if (!userRepository.existsById(userId)) {
+      throw new CustomException(UserErrorCode.USER_NOT_FOUND);
+    }
+
+    try {
+      return stampMapper.toSummaryResponse(stampRepository.findSummariesByUserId(userId));
     } catch (RuntimeException e) {
       throw new CustomException(StampErrorCode.STAMP_FETCH_FAILED);
     }
@@ -0,0 +1,79 @@
+package com.likelion.danchu.domain.stamp.service;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 스탬프카드 버전(Redis 카운터) 관리
+ *
+ * <p>스탬프 변경이 커밋될 때마다 {@code stamp:version:{userId}} 값을 1 올리고, 조회 API는 이 값으로 ETag를 만들어 변경이 없으면 DB 조회
+ * 없이 304를 반환합니다.
+ *
+ * <p>키가 없으면(첫 사용, 메모리 부족으로 축출, FLUSH 등) 0이 아닌 임의의 값에서 시작합니다. 1부터 다시 세면 축출 전에 발급한 ETag와 같은 값이 나와 바뀐
+ * 데이터에 304를 줄 수 있기 때문입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StampVersionService {
+
+  private static final String VERSION_KEY_PREFIX = "stamp:version:";
+
+  // 키가 없으면 ARGV[1](임의 시작값)로 만든 뒤 현재 값 반환
+  private static final RedisScript<String> READ =
+      new DefaultRedisScript<>(
+          """
+          redis.call('SET', KEYS[1], ARGV[1], 'NX')
+          return redis.call('GET', KEYS[1])
+          """,
+          String.class);
+
+  // 키가 없으면 ARGV[1](임의 시작값)로 만든 뒤 1 증가
+  private static final RedisScript<Long> BUMP =
+      new DefaultRedisScript<>(
+          """
+          redis.call('SET', KEYS[1], ARGV[1], 'NX')
+          return redis.call('INCR', KEYS[1])
+          """,
+          Long.class);
+
+  private final RedisUtil redisUtil;
+
+  /**
+   * 응답 종류별 ETag를 생성합니다.
+   *
+   * <p>버전은 데이터를 읽기 전에 조회해야 합니다. 그래야 조회 도중 변경이 생겨도 ETag가 데이터보다 오래된 값이 되어, 다음 요청에서 다시 전체 응답을 받게 됩니다.
+   *
+   * @param userId 사용자 ID
+   * @param view 응답 종류 (예: list, summary)
+   * @return ETag 문자열, Redis 장애 시 null (조건부 요청 미사용)
+   */
+  public String getETag(Long userId, String view) {
+    try {
+      String version = redisUtil.execute(READ, List.of(VERSION_KEY_PREFIX + userId), randomStart());
+      return "\"stamp-" + view + "-" + userId + "-" + version + "\"";
+    } catch (RuntimeException e) {
+      log.warn("[StampVersion] read failed. userId={}", userId, e);
+      return null;
+    }
+  }
+
+  /** 사용자의 스탬프카드 버전을 1 올립니다. */
+  public void bump(Long userId) {
+    redisUtil.execute(BUMP, List.of(VERSION_KEY_PREFIX + userId), randomStart());
+  }
+
+  // INCR 이 넘치지 않도록 2^62 미만
+  private String randomStart() {
+    return String.valueOf(ThreadLocalRandom.current().nextLong(1, 1L << 62));
+  }
+}
@@ -1,5 +1,7 @@
 package com.likelion.danchu.domain.store.controller;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 
 import jakarta.validation.Valid;
@@ -22,10 +24,12 @@ import com.likelion.danchu.domain.hashtag.dto.request.HashtagRequest;
 import com.likelion.danchu.domain.hashtag.dto.response.HashtagResponse;
 import com.likelion.danchu.domain.store.dto.request.StoreRequest;
 import com.likelion.danchu.domain.store.dto.response.PageableResponse;
+import com.likelion.danchu.domain.store.dto.response.StoreDailyStatsResponse;
 import com.likelion.danchu.domain.store.dto.response.StoreDistanceResponse;
 import com.likelion.danchu.domain.store.dto.response.StoreListItemResponse;
 import com.likelion.danchu.domain.store.dto.response.StoreResponse;
 import com.likelion.danchu.domain.store.exception.StoreErrorCode;
+import com.likelion.danchu.domain.store.service.StoreDailyStatsService;
 import com.likelion.danchu.domain.store.service.StoreHashtagService;
 import com.likelion.danchu.domain.store.service.StoreService;
 import com.likelion.danchu.global.exception.CustomException;
@@ -45,6 +49,7 @@ public class StoreController {
 
   private final StoreService storeService;
   private final StoreHashtagService storeHashtagService;
+  private final StoreDailyStatsService storeDailyStatsService;
 
   @Operation(
       summary = "가게 등록",
@@ -143,6 +148,25 @@ public class StoreController {
     return ResponseEntity.ok(BaseResponse.success("가게 상세 조회에 성공했습니다.", storeResponse));
   }
 
+  @Operation(
+      summary = "가게 일간 통계 조회",
+      description =
+          """
+              가게의 하루 미션 완료/스탬프 적립/쿠폰 발급 건수를 조회합니다.
+              - date를 생략하면 오늘(KST) 기준입니다.
+              - 이벤트 스트림으로 누적된 값이라 실제 반영까지 수 초가 걸릴 수 있습니다.
+              """)
+  @GetMapping("/{storeId}/stats")
+  public ResponseEntity<BaseResponse<StoreDailyStatsResponse>> getStoreDailyStats(
+      @Parameter(description = "가게 ID", example = "1") @PathVariable Long storeId,
+      @Parameter(description = "조회 날짜 (yyyy-MM-dd)", example = "2025-08-20")
+          @RequestParam(required = false)
+          LocalDate date) {
+    LocalDate target = date != null ? date : LocalDate.now(ZoneId.of("Asia/Seoul"));
+    StoreDailyStatsResponse stats = storeDailyStatsService.getStats(storeId, target);
+    return ResponseEntity.ok(BaseResponse.success("가게 일간 통계 조회에 성공했습니다.", stats));
+  }
+
   @Operation(
       summary = "특정 가게 해시태그 등록",
       description =
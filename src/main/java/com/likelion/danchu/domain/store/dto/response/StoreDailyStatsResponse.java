@@ -0,0 +1,28 @@
+package com.likelion.danchu.domain.store.dto.response;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(title = "StoreDailyStatsResponse", description = "가게 일간 통계 응답")
+public class StoreDailyStatsResponse {
+
+  @Schema(description = "가게 ID", example = "1")
+  private Long storeId;
+
+  @Schema(description = "통계 날짜", example = "2025-08-20")
+  private LocalDate date;
+
+  @Schema(description = "미션 완료 수", example = "12")
+  private long missionCompletedCount;
+
+  @Schema(description = "스탬프 적립 수", example = "30")
+  private long stampAccruedCount;
+
+  @Schema(description = "쿠폰 발급 수", example = "5")
+  private long couponIssuedCount;
+}
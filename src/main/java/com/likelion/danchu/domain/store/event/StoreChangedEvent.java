@@ -0,0 +1,18 @@
+package com.likelion.danchu.domain.store.event;
+
+/**
+ * 추천에 쓰이는 가게 정보(이름/설명/해시태그)가 바뀌었거나 가게가 생성·삭제되었음을 알리는 이벤트
+ *
+ * @param storeId 변경된 가게 ID
+ * @param deleted 가게 삭제 여부
+ */
+public record StoreChangedEvent(Long storeId, boolean deleted) {
+
+  public static StoreChangedEvent updated(Long storeId) {
+    return new StoreChangedEvent(storeId, false);
+  }
+
+  public static StoreChangedEvent deleted(Long storeId) {
+    return new StoreChangedEvent(storeId, true);
+  }
+}
@@ -0,0 +1,41 @@
+package com.likelion.danchu.domain.store.event;
+
+import java.time.LocalDate;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.domain.store.service.StoreDailyStatsService;
+import com.likelion.danchu.global.event.DomainEventRelay;
+import com.likelion.danchu.infra.stream.DomainEventStream;
+import com.likelion.danchu.infra.stream.DomainEventType;
+import com.likelion.danchu.infra.stream.StreamEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/** 이벤트 스트림의 미션 완료/스탬프 적립/쿠폰 발급을 가게별 일간 통계에 반영합니다. (소비자 그룹: {@code store-stats}) */
+@Component
+@RequiredArgsConstructor
+public class StoreStatsStreamConsumer {
+
+  static final String GROUP = "store-stats";
+
+  private final DomainEventStream domainEventStream;
+  private final StoreDailyStatsService storeDailyStatsService;
+
+  @PostConstruct
+  void subscribe() {
+    domainEventStream.subscribe(GROUP, this::handle);
+  }
+
+  void handle(StreamEvent event) {
+    if (event.type() == DomainEventType.MISSION_CATALOG_CHANGED) {
+      return;
+    }
+    storeDailyStatsService.increment(
+        event.getLong(DomainEventRelay.STORE_ID),
+        LocalDate.parse(event.get(DomainEventRelay.DATE)),
+        event.type());
+  }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.likelion.danchu.domain.hashtag.entity.Hashtag;
@@ -25,6 +26,10 @@ public interface StoreHashtagRepository extends JpaRepository<StoreHashtag, Long
   // 특정 가게 상세 조회 시 해시태그 모두 조회
   List<StoreHashtag> findByStore_Id(Long storeId);
 
+  // 여러 가게의 해시태그를 해시태그 엔티티와 함께 조회 (N+1 방지)
+  @Query("select sh from StoreHashtag sh join fetch sh.hashtag where sh.store.id in :storeIds")
+  List<StoreHashtag> findWithHashtagByStoreIdIn(@Param("storeIds") List<Long> storeIds);
+
   @Query(
       """
             select sh from StoreHashtag sh
@@ -33,6 +38,10 @@ public interface StoreHashtagRepository extends JpaRepository<StoreHashtag, Long
           """)
   List<StoreHashtag> findAllWithStoreAndHashtag();
 
+  // (가게 ID, 해시태그 이름) 쌍 전체 조회 (추천용 태그 역색인 구성)
+  @Query("select sh.store.id, h.name from StoreHashtag sh join sh.hashtag h")
+  List<Object[]> findAllStoreIdAndHashtagName();
+
   // 해당 가게에 등록된 해시태그 개수 반환
   long countByStore_Id(Long storeId);
 
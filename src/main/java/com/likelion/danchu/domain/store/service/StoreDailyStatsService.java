@@ -0,0 +1,70 @@
+package com.likelion.danchu.domain.store.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.likelion.danchu.domain.store.dto.response.StoreDailyStatsResponse;
+import com.likelion.danchu.domain.store.exception.StoreErrorCode;
+import com.likelion.danchu.domain.store.repository.StoreRepository;
+import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.infra.redis.RedisUtil;
+import com.likelion.danchu.infra.stream.DomainEventType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게별 일간 통계 (Redis HASH)
+ *
+ * <p>키: {@code store:stats:{yyyy-MM-dd}:{storeId}}, 필드: 이벤트 종류별 건수. 이벤트 스트림 소비자가 건별로 HINCRBY 하므로 조회
+ * 시 원본 테이블을 다시 집계하지 않습니다. 35일 뒤 만료됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreDailyStatsService {
+
+  private static final String KEY_PREFIX = "store:stats:";
+  private static final long TTL_SECONDS = 35 * 24 * 60 * 60;
+
+  private final RedisUtil redisUtil;
+  private final StoreRepository storeRepository;
+
+  /** 이벤트 1건 반영 */
+  public void increment(Long storeId, LocalDate date, DomainEventType type) {
+    String key = key(storeId, date);
+    redisUtil.incrementHash(key, type.name(), 1);
+    redisUtil.expire(key, TTL_SECONDS);
+  }
+
+  /**
+   * 가게의 하루 통계를 조회합니다.
+   *
+   * @param storeId 가게 ID
+   * @param date 조회 날짜
+   * @return 미션 완료/스탬프 적립/쿠폰 발급 건수 (기록이 없으면 0)
+   * @throws CustomException 가게가 없으면 {@link StoreErrorCode#STORE_NOT_FOUND}
+   */
+  public StoreDailyStatsResponse getStats(Long storeId, LocalDate date) {
+    if (!storeRepository.existsById(storeId)) {
+      throw new CustomException(StoreErrorCode.STORE_NOT_FOUND);
+    }
+    Map<String, String> entries = redisUtil.getHashEntries(key(storeId, date));
+    return StoreDailyStatsResponse.builder()
+        .storeId(storeId)
+        .date(date)
+        .missionCompletedCount(count(entries, DomainEventType.MISSION_COMPLETED))
+        .stampAccruedCount(count(entries, DomainEventType.STAMP_ACCRUED))
+        .couponIssuedCount(count(entries, DomainEventType.COUPON_ISSUED))
+        .build();
+  }
+
+  private long count(Map<String, String> entries, DomainEventType type) {
+    String value = entries.get(type.name());
+    return value != null ? Long.parseLong(value) : 0L;
+  }
+
+  private String key(Long storeId, LocalDate date) {
+    return KEY_PREFIX + date + ":" + storeId;
+  }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +27,7 @@ import com.likelion.danchu.domain.store.dto.response.StoreDistanceResponse;
 import com.likelion.danchu.domain.store.dto.response.StoreResponse;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.entity.StoreHashtag;
+import com.likelion.danchu.domain.store.event.StoreChangedEvent;
 import com.likelion.danchu.domain.store.exception.StoreErrorCode;
 import com.likelion.danchu.domain.store.mapper.StoreMapper;
 import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
@@ -48,6 +50,7 @@ public class StoreHashtagService {
   private final StoreMapper storeMapper;
   private final MenuRepository menuRepository;
   private final MenuMapper menuMapper;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 특정 가게에 해시태그를 생성/연결하는 서비스 메서드
@@ -97,6 +100,7 @@ public class StoreHashtagService {
       throw new CustomException(HashtagErrorCode.HASHTAG_LIMIT_EXCEEDED);
     }
 
+    eventPublisher.publishEvent(StoreChangedEvent.updated(storeId));
     return hashtagMapper.toResponse(hashtag);
   }
 
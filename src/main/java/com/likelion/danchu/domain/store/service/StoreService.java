@@ -1,5 +1,8 @@
 package com.likelion.danchu.domain.store.service;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -7,6 +10,7 @@ import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -21,7 +25,10 @@ import com.likelion.danchu.domain.hashtag.repository.HashtagRepository;
 import com.likelion.danchu.domain.menu.dto.response.MenuResponse;
 import com.likelion.danchu.domain.menu.mapper.MenuMapper;
 import com.likelion.danchu.domain.menu.repository.MenuRepository;
+import com.likelion.danchu.domain.mission.event.MissionCatalogChangedEvent;
+import com.likelion.danchu.domain.mission.repository.MissionArchiveRepository;
 import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.domain.stamp.event.StampChangedEvent;
 import com.likelion.danchu.domain.stamp.repository.StampRepository;
 import com.likelion.danchu.domain.store.dto.request.StoreRequest;
 import com.likelion.danchu.domain.store.dto.response.PageableResponse;
@@ -30,12 +37,14 @@ import com.likelion.danchu.domain.store.dto.response.StoreListItemResponse;
 import com.likelion.danchu.domain.store.dto.response.StoreResponse;
 import com.likelion.danchu.domain.store.entity.Store;
 import com.likelion.danchu.domain.store.entity.StoreHashtag;
+import com.likelion.danchu.domain.store.event.StoreChangedEvent;
 import com.likelion.danchu.domain.store.exception.StoreErrorCode;
 import com.likelion.danchu.domain.store.mapper.StoreMapper;
 import com.likelion.danchu.domain.store.repository.StoreHashtagRepository;
 import com.likelion.danchu.domain.store.repository.StoreRepository;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.outbox.service.OutboxService;
 import com.likelion.danchu.global.util.DistanceUtils;
 import com.likelion.danchu.infra.kakao.KakaoLocalClient;
 import com.likelion.danchu.infra.s3.entity.PathName;
@@ -59,9 +68,12 @@ public class StoreService {
   private final MenuRepository menuRepository;
   private final MenuMapper menuMapper;
   private final MissionRepository missionRepository;
+  private final MissionArchiveRepository missionArchiveRepository;
   private final UserRepository userRepository;
   private final CouponRepository couponRepository;
   private final StampRepository stampRepository;
+  private final OutboxService outboxService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 새로운 가게를 생성합니다.
@@ -116,6 +128,7 @@ public class StoreService {
               .build();
 
       Store saved = storeRepository.save(store);
+      eventPublisher.publishEvent(StoreChangedEvent.updated(saved.getId()));
       return storeMapper.toResponse(saved, List.of()); // 생성 직후 해시태그 없음
     } catch (Exception e) {
       throw new CustomException(StoreErrorCode.STORE_SAVE_FAILED);
@@ -381,7 +394,8 @@ public class StoreService {
   /**
    * 가게 삭제
    *
-   * <p>S3 같은 외부 시스템 실패 때문에 핵심 트랜잭션(DB 삭제)을 롤백시키지 않기 위해 이미지 삭제는 실패해도 진행
+   * <p>S3 이미지 삭제는 아웃박스에 예약만 하고 커밋 이후 비동기로 처리합니다. S3가 느리거나 실패해도 핵심 트랜잭션(DB 삭제)이 길어지거나 롤백되지 않으며, 실패한
+   * 삭제는 재시도됩니다.
    */
   public void deleteStore(Long storeId) {
     // 가게 조회
@@ -392,41 +406,37 @@ public class StoreService {
 
     // 해당 스토어의 미션 ID들 수집
     List<Long> missionIds = missionRepository.findIdsByStoreId(storeId);
+    List<LocalDate> missionDates =
+        missionRepository.findDatesByStoreIdFrom(storeId, LocalDate.now(ZoneId.of("Asia/Seoul")));
 
-    // 미션 리워드 이미지 S3 삭제
-    try {
-      if (!missionIds.isEmpty()) {
-        List<String> rewardUrls = missionRepository.findRewardImageUrlsByIds(missionIds);
-        for (String url : rewardUrls) {
-          if (url != null && !url.isBlank()) {
-            s3Service.deleteByUrl(url);
-          }
-        }
-      }
-    } catch (Exception ignore) {
-      // 이미지 삭제 실패는 전체 삭제를 막지 않음
+    // 미션 리워드 이미지 + 가게 메인 이미지 S3 삭제 예약
+    List<String> imageUrls = new ArrayList<>();
+    if (!missionIds.isEmpty()) {
+      imageUrls.addAll(missionRepository.findRewardImageUrlsByIds(missionIds));
     }
+    imageUrls.addAll(missionArchiveRepository.findRewardImageUrlsByStoreId(storeId));
+    imageUrls.add(store.getMainImageUrl());
+    outboxService.enqueueImageDeletes(imageUrls);
 
-    // 미션 삭제
+    // 미션 삭제 (날짜별 미션 목록 캐시도 커밋 후 무효화)
     missionRepository.deleteByStore_Id(storeId);
+    missionArchiveRepository.deleteByStoreId(storeId);
+    if (!missionDates.isEmpty()) {
+      eventPublisher.publishEvent(new MissionCatalogChangedEvent(missionDates));
+    }
 
     // 쿠폰, 스탬프, 메뉴, 해시태그 관계 삭제
     couponRepository.deleteByStore_Id(storeId);
+    List<Long> stampUserIds = stampRepository.findUserIdsByStoreId(storeId);
     stampRepository.deleteByStore_Id(storeId);
+    if (!stampUserIds.isEmpty()) {
+      eventPublisher.publishEvent(new StampChangedEvent(stampUserIds));
+    }
     menuRepository.deleteByStore_Id(storeId);
     storeHashtagRepository.deleteByStore_Id(storeId);
 
-    // 가게 메인 이미지 S3 삭제
-    try {
-      String url = store.getMainImageUrl();
-      if (url != null && !url.isBlank()) {
-        s3Service.deleteByUrl(url);
-      }
-    } catch (Exception ignore) {
-      // 이미지 삭제 실패는 전체 삭제를 막지 않음
-    }
-
     storeRepository.delete(store);
+    eventPublisher.publishEvent(StoreChangedEvent.deleted(storeId));
   }
 
   /** 여러 가게(storeIds)에 속한 메뉴를 한 번에 조회하여 가게 ID -> 메뉴 리스트(Map) 형태로 변환합니다. */
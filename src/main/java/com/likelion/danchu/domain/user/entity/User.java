@@ -1,7 +1,7 @@
 package com.likelion.danchu.domain.user.entity;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -49,17 +49,14 @@ public class User extends BaseTimeEntity {
   @Column(name = "profile_image_url", nullable = true)
   private String profileImageUrl;
 
-  // 완료 미션 카운트
+  // 완료 미션 카운트 (UserRepository#increaseCompletedMissionCount 로만 원자적으로 +1)
+  // 엔티티 변경 감지의 UPDATE 에서는 제외해, 먼저 읽어 둔 값이 원자적 증가분을 덮어쓰지 않도록 함
   @Builder.Default
-  @Column(name = "completed_mission_count", nullable = false)
+  @Column(name = "completed_mission_count", nullable = false, updatable = false)
   private int completedMissionCount = 0;
 
-  // 완료 미션 카운트 +1
-  public void increaseCompletedMissionCount() {
-    this.completedMissionCount++;
-  }
-
-  // 완료한 미션 ID 리스트 조인테이블로 저장
+  // 완료한 미션 ID 조인테이블 매핑 (JPQL 조회용)
+  // 기록은 UserRepository#insertCompletedMissionIfAbsent 로 컬렉션 로딩 없이 처리
   @Builder.Default
   @ElementCollection(fetch = FetchType.LAZY)
   @CollectionTable(
@@ -67,16 +64,7 @@ public class User extends BaseTimeEntity {
       joinColumns = @JoinColumn(name = "user_id"),
       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "mission_id"}))
   @Column(name = "mission_id", nullable = false)
-  private List<Long> completedMissionIds = new ArrayList<>();
-
-  // 중복 방지하면서 missionId 추가 (추가되면 true)
-  public boolean addCompletedMissionId(Long missionId) {
-    if (!this.completedMissionIds.contains(missionId)) {
-      this.completedMissionIds.add(missionId);
-      return true;
-    }
-    return false;
-  }
+  private Set<Long> completedMissionIds = new HashSet<>();
 
   public void updateInfo(String nickname, String email, String imageUrl) {
     this.nickname = nickname;
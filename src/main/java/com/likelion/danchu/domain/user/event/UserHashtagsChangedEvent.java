@@ -0,0 +1,8 @@
+package com.likelion.danchu.domain.user.event;
+
+/**
+ * 사용자의 관심 해시태그가 바뀌었음을 알리는 이벤트 (추가/삭제가 실제로 있었을 때만 발행)
+ *
+ * @param userId 해시태그가 바뀐 사용자 ID
+ */
+public record UserHashtagsChangedEvent(Long userId) {}
@@ -3,6 +3,8 @@ package com.likelion.danchu.domain.user.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.likelion.danchu.domain.user.entity.User;
@@ -17,4 +19,10 @@ public interface UserHashtagRepository extends JpaRepository<UserHashtag, Long>
   void deleteAllByUser_Id(Long userId);
 
   List<UserHashtag> findByUser_Id(Long userId);
+
+  // 여러 사용자의 (사용자 ID, 해시태그 이름) 쌍 (추천 배치용)
+  @Query(
+      "select uh.user.id, h.name from UserHashtag uh join uh.hashtag h"
+          + " where uh.user.id in :userIds order by uh.user.id, h.name")
+  List<Object[]> findUserIdAndHashtagNameByUserIdIn(@Param("userIds") List<Long> userIds);
 }
@@ -1,8 +1,12 @@
 package com.likelion.danchu.domain.user.repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,6 +22,50 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   Boolean existsByNickname(String nickname);
 
+  // 키셋 페이지네이션: afterId 다음 사용자 ID (PK 범위 조회)
+  @Query("select u.id from User u where u.id > :afterId order by u.id")
+  List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
   @Query("select u.completedMissionCount from User u where u.id = :userId")
   long getCompletedMissionCount(@Param("userId") Long userId);
+
+  // 완료 미션 카운트 +1 (엔티티 로딩 없이 원자적으로 증가, 대상 사용자가 없으면 0 반환)
+  @Modifying
+  @Query(
+      """
+            update User u
+            set u.completedMissionCount = u.completedMissionCount + 1
+            where u.id = :userId
+          """)
+  int increaseCompletedMissionCount(@Param("userId") Long userId);
+
+  /**
+   * 완료 이력 기록: (user_id, mission_id) 유니크 제약을 이용해 이미 있으면 무시합니다.
+   *
+   * <p>컬렉션을 로딩하지 않고 한 번의 INSERT로 처리하며, 새로 기록되면 1, 이미 완료한 미션이면 0을 반환합니다.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+              INSERT IGNORE INTO user_completed_mission (user_id, mission_id)
+              VALUES (:userId, :missionId)
+              """,
+      nativeQuery = true)
+  int insertCompletedMissionIfAbsent(
+      @Param("userId") Long userId, @Param("missionId") Long missionId);
+
+  // 사용자가 지정 날짜 미션 중 완료한 미션 ID 목록
+  @Query(
+      value =
+          """
+              SELECT ucm.mission_id
+              FROM user_completed_mission ucm
+              JOIN mission m ON m.id = ucm.mission_id
+              WHERE ucm.user_id = :userId
+                AND m.date = :date
+              """,
+      nativeQuery = true)
+  List<Long> findCompletedMissionIdsByDate(
+      @Param("userId") Long userId, @Param("date") LocalDate date);
 }
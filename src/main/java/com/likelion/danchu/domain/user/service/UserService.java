@@ -1,5 +1,6 @@
 package com.likelion.danchu.domain.user.service;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -7,6 +8,7 @@ import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,17 +19,20 @@ import com.likelion.danchu.domain.hashtag.dto.request.HashtagRequest;
 import com.likelion.danchu.domain.hashtag.entity.Hashtag;
 import com.likelion.danchu.domain.hashtag.exception.HashtagErrorCode;
 import com.likelion.danchu.domain.hashtag.repository.HashtagRepository;
+import com.likelion.danchu.domain.stamp.event.StampChangedEvent;
 import com.likelion.danchu.domain.stamp.repository.StampRepository;
 import com.likelion.danchu.domain.user.dto.request.UserRequest;
 import com.likelion.danchu.domain.user.dto.request.UserRequest.InfoRequest;
 import com.likelion.danchu.domain.user.dto.response.UserResponse;
 import com.likelion.danchu.domain.user.entity.User;
 import com.likelion.danchu.domain.user.entity.UserHashtag;
+import com.likelion.danchu.domain.user.event.UserHashtagsChangedEvent;
 import com.likelion.danchu.domain.user.exception.UserErrorCode;
 import com.likelion.danchu.domain.user.mapper.UserMapper;
 import com.likelion.danchu.domain.user.repository.UserHashtagRepository;
 import com.likelion.danchu.domain.user.repository.UserRepository;
 import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.outbox.service.OutboxService;
 import com.likelion.danchu.global.security.SecurityUtil;
 import com.likelion.danchu.infra.s3.entity.PathName;
 import com.likelion.danchu.infra.s3.service.S3Service;
@@ -49,6 +54,8 @@ public class UserService {
   private final UserHashtagRepository userHashtagRepository;
   private final CouponRepository couponRepository;
   private final StampRepository stampRepository;
+  private final OutboxService outboxService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 회원가입을 처리하는 메서드
@@ -151,7 +158,10 @@ public class UserService {
       }
     }
 
-    // 사용자 정보 수정
+    // 사용자 정보 수정 (스탬프카드 응답에 닉네임이 포함되므로 변경 시 버전 갱신)
+    if (!user.getNickname().equals(nickname)) {
+      eventPublisher.publishEvent(StampChangedEvent.of(userId));
+    }
     user.updateInfo(nickname, email, imageUrl);
 
     // 관심 해시태그 수정
@@ -246,6 +256,11 @@ public class UserService {
         throw new CustomException(UserErrorCode.USER_SAVE_FAILED);
       }
     }
+
+    // 추천 결과가 관심 해시태그에 따라 달라지므로 변경이 있을 때만 알림
+    if (!toDelete.isEmpty() || !hashtagsToAdd.isEmpty()) {
+      eventPublisher.publishEvent(new UserHashtagsChangedEvent(user.getId()));
+    }
   }
 
   public List<Hashtag> getUserHashtags(User user) {
@@ -262,11 +277,10 @@ public class UserService {
   /**
    * 회원 탈퇴(하드 삭제): S3/DB/Redis의 사용자 관련 자원을 모두 정리합니다.
    *
-   * <p>순서: 1) S3 이미지 삭제 (사용자 프로필 + 사용자의 모든 쿠폰 이미지) 2) DB 자원 삭제 (userHashtag → stamp → coupon →
-   * user)
+   * <p>순서: 1) S3 이미지 삭제 예약 (사용자 프로필 + 다른 곳에서 쓰지 않는 쿠폰 이미지, 커밋 이후 아웃박스에서 처리) 2) DB 자원 삭제
+   * (userHashtag → stamp → coupon → user)
    *
    * @throws CustomException 사용자 없음 {@link UserErrorCode#USER_NOT_FOUND}
-   * @throws CustomException S3 삭제 실패 {@link UserErrorCode#S3_DELETE_FAILED}
    * @throws CustomException DB 삭제 실패 {@link UserErrorCode#USER_DELETE_FAILED}
    */
   public void deleteCurrentUser() {
@@ -276,22 +290,18 @@ public class UserService {
             .findById(userId)
             .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND));
 
-    // 1) S3 이미지 삭제
     try {
-      if (user.getProfileImageUrl() != null && !user.getProfileImageUrl().isBlank()) {
-        s3Service.deleteByUrl(user.getProfileImageUrl());
-      }
-      for (Coupon c : couponRepository.findAllByUser_Id(userId)) {
-        if (c.getImageUrl() != null && !c.getImageUrl().isBlank()) {
-          s3Service.deleteByUrl(c.getImageUrl());
-        }
+      // 1) S3 이미지 삭제 예약 (가게 메인/미션 보상 이미지를 재사용한 쿠폰 이미지는 제외)
+      List<String> imageUrls = new ArrayList<>();
+      imageUrls.add(user.getProfileImageUrl());
+      List<Long> couponIds =
+          couponRepository.findAllByUser_Id(userId).stream().map(Coupon::getId).toList();
+      if (!couponIds.isEmpty()) {
+        imageUrls.addAll(couponRepository.findUnsharedImageUrlsByIds(couponIds));
       }
-    } catch (RuntimeException e) {
-      throw new CustomException(UserErrorCode.S3_DELETE_FAILED);
-    }
+      outboxService.enqueueImageDeletes(imageUrls);
 
-    // 2) DB 연관 자원 삭제 (자식 → 부모)
-    try {
+      // 2) DB 연관 자원 삭제 (자식 → 부모)
       userHashtagRepository.deleteAllByUser_Id(userId);
       stampRepository.deleteAllByUser_Id(userId);
       couponRepository.deleteAllByUser_Id(userId);
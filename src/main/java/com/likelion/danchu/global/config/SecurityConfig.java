@@ -1,5 +1,7 @@
 package com.likelion.danchu.global.config;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -51,7 +53,10 @@ public class SecurityConfig {
                     }))
         .authorizeHttpRequests(
             auth ->
-                auth.requestMatchers(
+                // 비동기 응답(SSE 등)의 재디스패치는 최초 요청에서 이미 인가됨
+                auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
+                    .requestMatchers(
                         "/", "/api/users/register", "/api/auth/login/**", "/api/auth/refresh")
                     .permitAll()
                     .requestMatchers("/swagger-ui/**", "/v3/api-docs/**")
@@ -0,0 +1,93 @@
+package com.likelion.danchu.global.event;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.likelion.danchu.domain.coupon.event.CouponIssuedEvent;
+import com.likelion.danchu.domain.mission.event.MissionCatalogChangedEvent;
+import com.likelion.danchu.domain.mission.event.MissionCompletedEvent;
+import com.likelion.danchu.domain.stamp.event.StampAccruedEvent;
+import com.likelion.danchu.infra.stream.DomainEventStream;
+import com.likelion.danchu.infra.stream.DomainEventType;
+import com.likelion.danchu.infra.stream.StreamEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커밋된 도메인 이벤트(미션 완료/스탬프 적립/쿠폰 발급/미션 목록 변경)를 이벤트 스트림으로 내보냅니다.
+ *
+ * <p>{@code date} 필드는 이벤트가 일어난 날짜(KST)이며, 집계 소비자는 이 값을 기준으로 일별 통계를 쌓습니다. 발행 실패는 로그만 남기고 원래 요청에는 영향을
+ * 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventRelay {
+
+  public static final String USER_ID = "userId";
+  public static final String STORE_ID = "storeId";
+  public static final String MISSION_ID = "missionId";
+  public static final String MISSION_DATE = "missionDate";
+  public static final String COUPON_ID = "couponId";
+  public static final String DATE = "date";
+  public static final String MISSION_DATES = "missionDates";
+
+  private final DomainEventStream domainEventStream;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onMissionCompleted(MissionCompletedEvent event) {
+    publish(
+        DomainEventType.MISSION_COMPLETED,
+        Map.of(
+            USER_ID, String.valueOf(event.userId()),
+            STORE_ID, String.valueOf(event.storeId()),
+            MISSION_ID, String.valueOf(event.missionId()),
+            MISSION_DATE, event.missionDate().toString()));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onStampAccrued(StampAccruedEvent event) {
+    publish(
+        DomainEventType.STAMP_ACCRUED,
+        Map.of(
+            USER_ID, String.valueOf(event.userId()),
+            STORE_ID, String.valueOf(event.storeId())));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onCouponIssued(CouponIssuedEvent event) {
+    publish(
+        DomainEventType.COUPON_ISSUED,
+        Map.of(
+            USER_ID, String.valueOf(event.userId()),
+            STORE_ID, String.valueOf(event.storeId()),
+            COUPON_ID, String.valueOf(event.couponId())));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onMissionCatalogChanged(MissionCatalogChangedEvent event) {
+    publish(
+        DomainEventType.MISSION_CATALOG_CHANGED,
+        Map.of(
+            MISSION_DATES,
+            event.dates().stream().map(LocalDate::toString).collect(Collectors.joining(","))));
+  }
+
+  private void publish(DomainEventType type, Map<String, String> fields) {
+    Map<String, String> withDate = new HashMap<>(fields);
+    withDate.put(DATE, LocalDate.now(ZoneId.of("Asia/Seoul")).toString());
+    try {
+      domainEventStream.publish(StreamEvent.of(type, withDate));
+    } catch (RuntimeException e) {
+      log.warn("[EventStream] publish failed. type={}, fields={}", type, withDate, e);
+    }
+  }
+}
@@ -12,7 +12,8 @@ import lombok.Getter;
 public enum GlobalErrorCode implements BaseErrorCode {
   INVALID_INPUT_VALUE("G001", "유효하지 않은 입력입니다.", HttpStatus.BAD_REQUEST),
   RESOURCE_NOT_FOUND("G002", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
-  INTERNAL_SERVER_ERROR("G003", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+  INTERNAL_SERVER_ERROR("G003", "서버 내부 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+  CONCURRENT_MODIFICATION("G004", "다른 요청과 동시에 처리되어 실패했습니다. 다시 시도해주세요.", HttpStatus.CONFLICT);
 
   private final String code;
   private final String message;
@@ -0,0 +1,82 @@
+package com.likelion.danchu.global.outbox.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import com.likelion.danchu.global.common.BaseTimeEntity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭션 아웃박스 이벤트
+ *
+ * <p>요청 트랜잭션 안에서는 이 행만 저장하고, 실제 외부 작업(S3 삭제 등)은 커밋 이후 {@code OutboxDispatcher}가 비동기로 처리합니다. 처리에 성공한
+ * 행은 삭제되고, 실패하면 지수 백오프로 재시도합니다. 처리 중인 행은 {@code next_attempt_at} 을 선점 만료 시각으로 미뤄 다른 인스턴스가 가져가지 않게
+ * 합니다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+    name = "outbox_event",
+    indexes =
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+public class OutboxEvent extends BaseTimeEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "event_type", nullable = false, length = 50)
+  private OutboxEventType eventType;
+
+  @Column(name = "payload", nullable = false, length = 1000)
+  private String payload;
+
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private OutboxStatus status = OutboxStatus.PENDING;
+
+  @Builder.Default
+  @Column(name = "attempts", nullable = false)
+  private int attempts = 0;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", nullable = true, length = 500)
+  private String lastError;
+
+  // 처리 선점: 이 시각까지 다른 인스턴스가 다시 가져가지 않음 (처리 중 종료되면 이후 재시도)
+  public void lease(LocalDateTime until) {
+    this.nextAttemptAt = until;
+  }
+
+  // 처리 실패 기록: 최대 횟수를 넘기면 FAILED, 아니면 다음 시도 시각 예약
+  public void recordFailure(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+    this.attempts++;
+    this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    if (this.attempts >= maxAttempts) {
+      this.status = OutboxStatus.FAILED;
+    } else {
+      this.nextAttemptAt = nextAttemptAt;
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package com.likelion.danchu.global.outbox.entity;
+
+public enum OutboxEventType {
+  // payload: 삭제할 S3 이미지 URL
+  S3_IMAGE_DELETE,
+}
@@ -0,0 +1,8 @@
+package com.likelion.danchu.global.outbox.entity;
+
+public enum OutboxStatus {
+  // 처리 대기 (재시도 포함)
+  PENDING,
+  // 최대 재시도 횟수 초과
+  FAILED,
+}
@@ -0,0 +1,30 @@
+package com.likelion.danchu.global.outbox.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.likelion.danchu.global.outbox.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  // 처리 시각이 된 대기 이벤트를 잠금과 함께 조회 (다른 인스턴스가 잡은 행은 건너뜀)
+  @Query(
+      value =
+          """
+              SELECT *
+              FROM outbox_event
+              WHERE status = 'PENDING'
+                AND next_attempt_at <= :now
+              ORDER BY id
+              LIMIT :limit
+              FOR UPDATE SKIP LOCKED
+              """,
+      nativeQuery = true)
+  List<OutboxEvent> findDispatchable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
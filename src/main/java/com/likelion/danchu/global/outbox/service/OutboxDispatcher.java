@@ -0,0 +1,30 @@
+package com.likelion.danchu.global.outbox.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/** 아웃박스 폴러: 주기적으로 대기 이벤트를 묶음 단위로 처리합니다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+  private final OutboxService outboxService;
+
+  @Value("${outbox.batch-size:50}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${outbox.poll-interval-millis:1000}")
+  public void dispatch() {
+    try {
+      // 한 묶음이 가득 찼으면 밀린 이벤트가 더 있을 수 있으므로 바로 이어서 처리
+      while (outboxService.dispatchPending(batchSize) == batchSize) {}
+    } catch (RuntimeException e) {
+      log.error("[Outbox] polling failed", e);
+    }
+  }
+}
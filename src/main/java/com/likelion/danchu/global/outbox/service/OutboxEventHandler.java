@@ -0,0 +1,11 @@
+package com.likelion.danchu.global.outbox.service;
+
+import com.likelion.danchu.global.outbox.entity.OutboxEventType;
+
+/** 아웃박스 이벤트 타입별 처리기. 같은 이벤트가 다시 전달될 수 있으므로 멱등하게 구현해야 합니다. */
+public interface OutboxEventHandler {
+
+  OutboxEventType getEventType();
+
+  void handle(String payload);
+}
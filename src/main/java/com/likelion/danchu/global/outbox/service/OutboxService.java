@@ -0,0 +1,157 @@
+package com.likelion.danchu.global.outbox.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.likelion.danchu.global.outbox.entity.OutboxEvent;
+import com.likelion.danchu.global.outbox.entity.OutboxEventType;
+import com.likelion.danchu.global.outbox.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class OutboxService {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final Map<OutboxEventType, OutboxEventHandler> handlers;
+  private final MeterRegistry meterRegistry;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${outbox.max-attempts:10}")
+  private int maxAttempts;
+
+  @Value("${outbox.backoff-base-seconds:5}")
+  private long backoffBaseSeconds;
+
+  @Value("${outbox.backoff-max-seconds:3600}")
+  private long backoffMaxSeconds;
+
+  // 선점 후 처리 결과를 기록하기 전까지 다른 인스턴스가 가져가지 않는 시간 (처리 시간보다 길게)
+  @Value("${outbox.lease-seconds:300}")
+  private long leaseSeconds;
+
+  public OutboxService(
+      OutboxEventRepository outboxEventRepository,
+      List<OutboxEventHandler> handlers,
+      MeterRegistry meterRegistry,
+      PlatformTransactionManager transactionManager) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.meterRegistry = meterRegistry;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.handlers = new EnumMap<>(OutboxEventType.class);
+    for (OutboxEventHandler handler : handlers) {
+      this.handlers.put(handler.getEventType(), handler);
+    }
+  }
+
+  /**
+   * S3 이미지 삭제를 현재 트랜잭션에 예약합니다. 트랜잭션이 롤백되면 삭제도 일어나지 않습니다.
+   *
+   * @param imageUrls 삭제할 이미지 URL 목록 (null/공백은 무시)
+   */
+  @Transactional
+  public void enqueueImageDeletes(List<String> imageUrls) {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> events =
+        imageUrls.stream()
+            .filter(url -> url != null && !url.isBlank())
+            .distinct()
+            .map(
+                url ->
+                    OutboxEvent.builder()
+                        .eventType(OutboxEventType.S3_IMAGE_DELETE)
+                        .payload(url)
+                        .nextAttemptAt(now)
+                        .build())
+            .toList();
+    if (!events.isEmpty()) {
+      outboxEventRepository.saveAll(events);
+    }
+  }
+
+  /**
+   * 처리 시각이 된 이벤트를 최대 {@code limit}개 처리합니다.
+   *
+   * <p>짧은 트랜잭션에서 행을 잠가 선점(lease)만 하고 커밋한 뒤, 외부 호출(S3 등)은 트랜잭션과 행 잠금 없이 실행합니다. 성공한 이벤트는 삭제하고, 실패한
+   * 이벤트는 지수 백오프로 다음 시도를 예약합니다. 결과를 기록하기 전에 인스턴스가 종료되면 선점 시간이 지난 뒤 다시 처리됩니다.
+   *
+   * @return 이번에 조회한 이벤트 수
+   */
+  public int dispatchPending(int limit) {
+    List<OutboxEvent> events = transactionTemplate.execute(status -> claim(limit));
+
+    for (OutboxEvent event : events) {
+      OutboxEventHandler handler = handlers.get(event.getEventType());
+      try {
+        if (handler == null) {
+          throw new IllegalStateException("no handler for " + event.getEventType());
+        }
+        handler.handle(event.getPayload());
+        transactionTemplate.executeWithoutResult(
+            status -> outboxEventRepository.deleteById(event.getId()));
+        countResult(event, "success");
+      } catch (RuntimeException e) {
+        recordFailure(event, e);
+      }
+    }
+    return events.size();
+  }
+
+  /* 처리 시각이 된 이벤트를 잠가 선점 시간만큼 다음 시도를 미룸 (호출 트랜잭션 커밋 시 잠금 해제) */
+  private List<OutboxEvent> claim(int limit) {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> events = outboxEventRepository.findDispatchable(now, limit);
+    for (OutboxEvent event : events) {
+      event.lease(now.plusSeconds(leaseSeconds));
+    }
+    return events;
+  }
+
+  private void recordFailure(OutboxEvent event, RuntimeException cause) {
+    countResult(event, "failure");
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              outboxEventRepository
+                  .findById(event.getId())
+                  .ifPresent(
+                      managed ->
+                          managed.recordFailure(
+                              cause.toString(),
+                              LocalDateTime.now().plus(backoff(managed)),
+                              maxAttempts)));
+    } catch (RuntimeException e) {
+      // 기록하지 못해도 선점 시간이 지나면 다시 처리됨
+      log.warn("[Outbox] failure record failed. id={}", event.getId(), e);
+    }
+    log.warn(
+        "[Outbox] dispatch failed. id={}, type={}, attempts={}, cause={}",
+        event.getId(),
+        event.getEventType(),
+        event.getAttempts() + 1,
+        cause.toString());
+  }
+
+  /* 재시도 간격: base * 2^attempts (최대 backoffMaxSeconds) */
+  private Duration backoff(OutboxEvent event) {
+    long seconds = backoffBaseSeconds << Math.min(event.getAttempts(), 20);
+    return Duration.ofSeconds(Math.min(seconds, backoffMaxSeconds));
+  }
+
+  private void countResult(OutboxEvent event, String result) {
+    meterRegistry
+        .counter("outbox.dispatch", "type", event.getEventType().name(), "result", result)
+        .increment();
+  }
+}
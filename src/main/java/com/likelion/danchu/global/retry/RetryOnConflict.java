@@ -0,0 +1,24 @@
+package com.likelion.danchu.global.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌({@link org.springframework.dao.OptimisticLockingFailureException}) 발생 시 메서드를 처음부터 다시
+ * 실행합니다.
+ *
+ * <p>재시도마다 새 트랜잭션이 열리도록 트랜잭션의 시작점이 되는 서비스 메서드(컨트롤러에서 직접 호출되는 메서드)에만 붙여야 합니다. 모든 시도가 실패하면 {@code
+ * GlobalErrorCode.CONCURRENT_MODIFICATION} 예외가 발생합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+  // 최초 실행을 포함한 최대 시도 횟수
+  int maxAttempts() default 3;
+
+  // 재시도 전 대기 시간(ms) 기준값 — 시도 횟수만큼 늘어나며 무작위 지터가 더해짐
+  long backoffMillis() default 20;
+}
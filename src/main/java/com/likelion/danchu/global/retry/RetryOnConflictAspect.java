@@ -0,0 +1,69 @@
+package com.likelion.danchu.global.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.global.exception.GlobalErrorCode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link RetryOnConflict} 처리 Aspect
+ *
+ * <p>트랜잭션 인터셉터(LOWEST_PRECEDENCE)보다 바깥에서 실행되어야 커밋 시점의 버전 충돌까지 잡고, 재시도를 새 트랜잭션으로 수행할 수 있습니다.
+ *
+ * <p>메트릭: {@code optimistic_lock.conflict}(충돌 횟수), {@code optimistic_lock.exhausted}(재시도 소진 횟수)
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class RetryOnConflictAspect {
+
+  private final MeterRegistry meterRegistry;
+
+  @Around("@annotation(retryOnConflict)")
+  public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict)
+      throws Throwable {
+    String method = joinPoint.getSignature().toShortString();
+    int maxAttempts = Math.max(1, retryOnConflict.maxAttempts());
+
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return joinPoint.proceed();
+      } catch (OptimisticLockingFailureException e) {
+        meterRegistry.counter("optimistic_lock.conflict", "method", method).increment();
+        if (attempt >= maxAttempts) {
+          meterRegistry.counter("optimistic_lock.exhausted", "method", method).increment();
+          log.warn("[RetryOnConflict] exhausted. method={}, attempts={}", method, attempt);
+          throw new CustomException(GlobalErrorCode.CONCURRENT_MODIFICATION);
+        }
+        sleepBeforeRetry(retryOnConflict.backoffMillis() * attempt);
+      }
+    }
+  }
+
+  private void sleepBeforeRetry(long baseMillis) {
+    if (baseMillis <= 0) {
+      return;
+    }
+    try {
+      // 동시에 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록 지터 추가
+      Thread.sleep(baseMillis + ThreadLocalRandom.current().nextLong(baseMillis));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(GlobalErrorCode.CONCURRENT_MODIFICATION);
+    }
+  }
+}
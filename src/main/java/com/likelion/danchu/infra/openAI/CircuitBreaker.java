@@ -0,0 +1,101 @@
+package com.likelion.danchu.infra.openAI;
+
+/**
+ * 외부 호출용 간단한 서킷 브레이커
+ *
+ * <ul>
+ *   <li>CLOSED: 호출 허용. 실패(예외 또는 {@code slowCallMillis} 이상 걸린 호출)가 {@code failureThreshold} 번 연속되면
+ *       OPEN
+ *   <li>OPEN: {@code openMillis} 동안 호출 차단 ({@link OpenException} 으로 즉시 실패)
+ *   <li>HALF_OPEN: 시험 호출 1건만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ * </ul>
+ */
+public final class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /** 서킷이 열려 호출하지 않았음을 나타내는 예외 */
+  public static class OpenException extends RuntimeException {
+    public OpenException(String name) {
+      super("circuit open: " + name);
+    }
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long openMillis;
+  private final long slowCallMillis;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean probeInFlight;
+
+  public CircuitBreaker(String name, int failureThreshold, long openMillis, long slowCallMillis) {
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openMillis = openMillis;
+    this.slowCallMillis = slowCallMillis;
+  }
+
+  /**
+   * 호출 허가를 받습니다. 허가를 받았으면 결과를 반드시 {@link #onResult} 로 알려야 합니다.
+   *
+   * @throws OpenException 서킷이 열려 있거나 시험 호출이 이미 진행 중인 경우
+   */
+  public synchronized void acquire() {
+    if (state == State.OPEN) {
+      if (System.currentTimeMillis() - openedAt < openMillis) {
+        throw new OpenException(name);
+      }
+      state = State.HALF_OPEN;
+      probeInFlight = false;
+    }
+    if (state == State.HALF_OPEN) {
+      if (probeInFlight) {
+        throw new OpenException(name);
+      }
+      probeInFlight = true;
+    }
+  }
+
+  /**
+   * 허가받은 호출의 결과를 기록합니다.
+   *
+   * @param elapsedMillis 호출에 걸린 시간
+   * @param failed 예외로 끝났는지
+   */
+  public synchronized void onResult(long elapsedMillis, boolean failed) {
+    boolean bad = failed || elapsedMillis >= slowCallMillis;
+    if (state == State.HALF_OPEN) {
+      probeInFlight = false;
+      if (bad) {
+        open();
+      } else {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+      }
+      return;
+    }
+
+    if (!bad) {
+      consecutiveFailures = 0;
+    } else if (++consecutiveFailures >= failureThreshold && state == State.CLOSED) {
+      open();
+    }
+  }
+
+  public synchronized State state() {
+    return state;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = System.currentTimeMillis();
+    consecutiveFailures = 0;
+  }
+}
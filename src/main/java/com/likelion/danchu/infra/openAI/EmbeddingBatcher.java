@@ -0,0 +1,130 @@
+package com.likelion.danchu.infra.openAI;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 임베딩 요청 마이크로 배칭
+ *
+ * <p>동시에 들어온 임베딩 요청을 {@code windowMillis} 동안 모아, 같은 문장은 하나로 합친 뒤 최대 {@code maxBatchSize} 개씩 한 번에
+ * 호출합니다. 결과는 문장별 future 로 나눠 돌려주므로 여러 요청이 같은 가게 문장을 기다려도 API 호출은 한 번입니다. 모인 문장이 최대 개수에 도달하면 기다리지 않고
+ * 바로 보냅니다.
+ */
+public final class EmbeddingBatcher {
+
+  private final Function<List<String>, CompletableFuture<List<float[]>>> fetcher;
+  private final long windowMillis;
+  private final int maxBatchSize;
+  private final ScheduledExecutorService scheduler;
+
+  private final Object lock = new Object();
+  private Map<String, CompletableFuture<float[]>> pending = new LinkedHashMap<>();
+  private boolean flushScheduled;
+
+  /**
+   * @param fetcher 문장 목록을 한 번에 임베딩하는 함수 (결과는 입력 순서)
+   * @param windowMillis 요청을 모으는 시간
+   * @param maxBatchSize 한 번에 보낼 최대 문장 수
+   */
+  public EmbeddingBatcher(
+      Function<List<String>, CompletableFuture<List<float[]>>> fetcher,
+      long windowMillis,
+      int maxBatchSize) {
+    this.fetcher = fetcher;
+    this.windowMillis = windowMillis;
+    this.maxBatchSize = maxBatchSize;
+    this.scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "embedding-batcher");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * 문장들의 임베딩을 요청합니다.
+   *
+   * @param texts 임베딩할 문장 목록
+   * @return 입력 순서의 임베딩 (배치 호출이 실패하면 예외로 완료)
+   */
+  public CompletableFuture<List<float[]>> submitAll(List<String> texts) {
+    List<CompletableFuture<float[]>> futures = new ArrayList<>(texts.size());
+    boolean flushNow = false;
+    synchronized (lock) {
+      for (String text : texts) {
+        futures.add(pending.computeIfAbsent(text, t -> new CompletableFuture<>()));
+      }
+      if (pending.size() >= maxBatchSize) {
+        flushNow = true;
+      } else if (!flushScheduled) {
+        flushScheduled = true;
+        scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+    if (flushNow) {
+      flush();
+    }
+
+    return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+  }
+
+  public void shutdown() {
+    scheduler.shutdown();
+  }
+
+  private void flush() {
+    Map<String, CompletableFuture<float[]>> batch;
+    synchronized (lock) {
+      flushScheduled = false;
+      if (pending.isEmpty()) {
+        return;
+      }
+      batch = pending;
+      pending = new LinkedHashMap<>();
+    }
+
+    List<String> texts = new ArrayList<>(batch.keySet());
+    for (int from = 0; from < texts.size(); from += maxBatchSize) {
+      send(texts.subList(from, Math.min(from + maxBatchSize, texts.size())), batch);
+    }
+  }
+
+  private void send(List<String> texts, Map<String, CompletableFuture<float[]>> batch) {
+    CompletableFuture<List<float[]>> result;
+    try {
+      result = fetcher.apply(texts);
+    } catch (RuntimeException e) {
+      result = CompletableFuture.failedFuture(e);
+    }
+
+    result.whenComplete(
+        (vectors, error) -> {
+          Throwable failure = error;
+          if (failure == null && vectors.size() != texts.size()) {
+            failure =
+                new IllegalStateException(
+                    "embedding size mismatch: expected="
+                        + texts.size()
+                        + ", got="
+                        + vectors.size());
+          }
+          for (int i = 0; i < texts.size(); i++) {
+            CompletableFuture<float[]> future = batch.get(texts.get(i));
+            if (failure != null) {
+              future.completeExceptionally(failure);
+            } else {
+              future.complete(vectors.get(i));
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,132 @@
+package com.likelion.danchu.infra.openAI;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 임베딩 캐시 (인스턴스 LRU + Redis)
+ *
+ * <p>키는 {@code sha256(모델 + "\n" + 텍스트)} 이므로 같은 문장은 모델이 바뀌지 않는 한 다시 임베딩하지 않습니다. 조회는 로컬 LRU → Redis
+ * MGET 순서이며, Redis 장애 시에는 로컬 LRU만 사용합니다. Redis 값은 정규화된 float32 벡터 바이트 배열의 Base64 입니다.
+ */
+@Slf4j
+public class EmbeddingCache {
+
+  private static final String KEY_PREFIX = "embedding:f32:";
+
+  private final RedisUtil redisUtil;
+  private final long ttlSeconds;
+  private final Map<String, float[]> local;
+
+  public EmbeddingCache(RedisUtil redisUtil, int localSize, long ttlSeconds) {
+    this.redisUtil = redisUtil;
+    this.ttlSeconds = ttlSeconds;
+    this.local =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+            return size() > localSize;
+          }
+        };
+  }
+
+  /**
+   * 캐시에 있는 임베딩만 찾아 반환합니다.
+   *
+   * @param model 임베딩 모델
+   * @param texts 찾을 문장 목록 (중복 없음)
+   * @return 문장 → 임베딩 (없는 문장은 포함되지 않음)
+   */
+  public Map<String, float[]> getAll(String model, Collection<String> texts) {
+    Map<String, float[]> found = new HashMap<>();
+    Map<String, String> remoteKeys = new LinkedHashMap<>(); // redisKey -> text
+
+    synchronized (local) {
+      for (String text : texts) {
+        String hash = hash(model, text);
+        float[] vector = local.get(hash);
+        if (vector != null) {
+          found.put(text, vector);
+        } else {
+          remoteKeys.put(KEY_PREFIX + hash, text);
+        }
+      }
+    }
+    if (remoteKeys.isEmpty()) {
+      return found;
+    }
+
+    try {
+      List<String> keys = List.copyOf(remoteKeys.keySet());
+      List<String> values = redisUtil.multiGet(keys);
+      for (int i = 0; i < keys.size(); i++) {
+        String value = values.get(i);
+        if (value == null) {
+          continue;
+        }
+        float[] vector = decode(value);
+        found.put(remoteKeys.get(keys.get(i)), vector);
+        synchronized (local) {
+          local.put(keys.get(i).substring(KEY_PREFIX.length()), vector);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("[EmbeddingCache] redis read failed, using local tier only", e);
+    }
+    return found;
+  }
+
+  /** 새로 받은 임베딩 저장 (로컬 + Redis, 파이프라인 한 번) */
+  public void putAll(String model, Map<String, float[]> vectors) {
+    Map<String, String> encoded = new HashMap<>();
+    synchronized (local) {
+      vectors.forEach(
+          (text, vector) -> {
+            String hash = hash(model, text);
+            local.put(hash, vector);
+            encoded.put(KEY_PREFIX + hash, encode(vector));
+          });
+    }
+    try {
+      redisUtil.setAll(encoded, ttlSeconds);
+    } catch (RuntimeException e) {
+      log.warn("[EmbeddingCache] redis write failed. size={}", encoded.size(), e);
+    }
+  }
+
+  static String hash(String model, String text) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] bytes = digest.digest((model + "\n" + text).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(bytes);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String encode(float[] vector) {
+    ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+    buffer.asFloatBuffer().put(vector);
+    return Base64.getEncoder().encodeToString(buffer.array());
+  }
+
+  private static float[] decode(String value) {
+    ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value));
+    float[] vector = new float[buffer.remaining() / Float.BYTES];
+    buffer.asFloatBuffer().get(vector);
+    return vector;
+  }
+}
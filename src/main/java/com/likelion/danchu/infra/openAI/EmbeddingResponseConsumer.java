@@ -0,0 +1,87 @@
+package com.likelion.danchu.infra.openAI;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
+
+/**
+ * {@code /embeddings} 응답 본문을 받는 대로 {@link EmbeddingResponseDecoder} 에 넘기는 비동기 응답 소비자
+ *
+ * <p>본문 전체를 메모리에 모으지 않고 도착한 조각을 바로 디코딩합니다. 디코딩은 HTTP I/O 스레드에서 일어나지만 받은 바이트만큼의 파싱이라 블로킹하지 않으며,
+ * 정규화/캐시 저장 등 후속 처리는 호출 측에서 전용 실행기로 넘깁니다. 오류 응답(3xx 이상)의 본문은 읽고 버립니다.
+ */
+class EmbeddingResponseConsumer
+    extends AbstractBinResponseConsumer<EmbeddingResponseConsumer.Result> {
+
+  private static final int CHUNK_SIZE = 8192;
+
+  /**
+   * 응답 결과
+   *
+   * @param status HTTP 상태 코드
+   * @param vectors 디코딩한 벡터 ({@link EmbeddingResponseDecoder#finish()} 와 같음, 오류 응답이면 빈 리스트)
+   * @param error 본문 디코딩 실패 원인 (없으면 null)
+   */
+  record Result(int status, List<float[]> vectors, IOException error) {}
+
+  private final EmbeddingResponseDecoder decoder;
+  private final byte[] chunk = new byte[CHUNK_SIZE];
+
+  private int status;
+  private boolean received;
+  private IOException error;
+
+  EmbeddingResponseConsumer(int expectedCount) throws IOException {
+    this.decoder = new EmbeddingResponseDecoder(expectedCount);
+  }
+
+  @Override
+  protected void start(HttpResponse response, ContentType contentType) {
+    this.status = response.getCode();
+  }
+
+  @Override
+  protected int capacityIncrement() {
+    // 받은 조각을 바로 디코딩하므로 따로 쌓아 두지 않음
+    return Integer.MAX_VALUE;
+  }
+
+  @Override
+  protected void data(ByteBuffer src, boolean endOfStream) {
+    if (status >= 300 || error != null) {
+      src.position(src.limit());
+      return;
+    }
+    while (src.hasRemaining()) {
+      int length = Math.min(src.remaining(), chunk.length);
+      src.get(chunk, 0, length);
+      received = true;
+      try {
+        decoder.feed(chunk, 0, length);
+      } catch (IOException e) {
+        // 연결을 재사용할 수 있도록 나머지 본문은 읽고 버림
+        error = e;
+        src.position(src.limit());
+      }
+    }
+  }
+
+  @Override
+  protected Result buildResult() {
+    if (status >= 300 || !received || error != null) {
+      return new Result(status, List.of(), error);
+    }
+    try {
+      return new Result(status, decoder.finish(), null);
+    } catch (IOException e) {
+      return new Result(status, List.of(), e);
+    }
+  }
+
+  @Override
+  public void releaseResources() {}
+}
@@ -0,0 +1,222 @@
+package com.likelion.danchu.infra.openAI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+/**
+ * {@code /embeddings} 응답 스트리밍 디코더
+ *
+ * <p>응답 본문을 받은 조각 단위로 넘기면({@link #feed}) 논블로킹 JSON 파서로 바로 토큰을 읽으며 {@code data[].embedding} 숫자를
+ * {@code float[]} 에 씁니다. 본문 전체를 모아 두지 않고, 중간 객체(List&lt;Double&gt; 등)를 만들지 않으므로 벡터당 수천 개의 박싱 객체도
+ * 생기지 않습니다. {@code data} 외의 필드(model, usage 등)는 건너뜁니다.
+ *
+ * <p>한 응답에만 사용하며 스레드 안전하지 않습니다.
+ */
+public final class EmbeddingResponseDecoder {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  // 대부분의 임베딩 모델 차원 (부족하면 늘림)
+  private static final int INITIAL_CAPACITY = 1536;
+
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  private enum State {
+    START, // 최상위 객체 시작 전
+    ROOT, // 최상위 객체의 필드
+    DATA, // data 배열의 원소
+    ITEM, // data 원소 객체의 필드
+    EMBEDDING, // embedding 숫자 배열
+    DONE // 최상위 객체 끝 (또는 객체가 아닌 응답)
+  }
+
+  private final int expectedCount;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+  private final List<float[]> out;
+
+  private State state = State.START;
+  private boolean notObject;
+  private String field;
+  private int skipDepth;
+
+  // 읽는 중인 data 원소
+  private int position;
+  private int index;
+  private float[] buffer;
+  private int size;
+  private boolean hasEmbedding;
+
+  /**
+   * @param expectedCount 요청한 입력 수 ({@code index} 는 0 이상 이 값 미만이어야 함)
+   */
+  public EmbeddingResponseDecoder(int expectedCount) throws IOException {
+    this.expectedCount = expectedCount;
+    this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    this.out = Arrays.asList(new float[expectedCount][]);
+  }
+
+  /**
+   * 응답 본문 전체를 디코딩합니다.
+   *
+   * @param body 응답 본문 스트림 (닫지 않음)
+   * @param expectedCount 요청한 입력 수
+   * @return {@link #finish()} 와 같음
+   * @throws IOException JSON 형식이 잘못되었거나 {@code index} 가 범위를 벗어난 경우
+   */
+  public static List<float[]> decode(InputStream body, int expectedCount) throws IOException {
+    EmbeddingResponseDecoder decoder = new EmbeddingResponseDecoder(expectedCount);
+    byte[] chunk = new byte[READ_BUFFER_SIZE];
+    int read;
+    while ((read = body.read(chunk)) != -1) {
+      decoder.feed(chunk, 0, read);
+    }
+    return decoder.finish();
+  }
+
+  /**
+   * 받은 본문 조각을 처리합니다. 반환 후에는 {@code bytes} 를 다시 써도 됩니다.
+   *
+   * @throws IOException JSON 형식이 잘못되었거나 {@code index} 가 범위를 벗어난 경우
+   */
+  public void feed(byte[] bytes, int offset, int length) throws IOException {
+    if (length <= 0) {
+      return;
+    }
+    feeder.feedInput(bytes, offset, offset + length);
+    drain();
+  }
+
+  /**
+   * 본문 끝을 알리고 결과를 반환합니다.
+   *
+   * @return {@code index} 순서로 정렬된 임베딩 목록 (크기 expectedCount, 정규화 전, 응답에 없는 index 는 null). 최상위가 객체가
+   *     아니면 빈 리스트
+   * @throws IOException 본문이 중간에 끊긴 경우
+   */
+  public List<float[]> finish() throws IOException {
+    feeder.endOfInput();
+    try {
+      drain();
+    } finally {
+      parser.close();
+    }
+    if (notObject) {
+      return List.of();
+    }
+    if (state != State.DONE) {
+      throw new IOException("embeddings response ended unexpectedly");
+    }
+    return out;
+  }
+
+  /** 지금까지 받은 입력으로 읽을 수 있는 토큰을 모두 처리 */
+  private void drain() throws IOException {
+    JsonToken token;
+    while (state != State.DONE
+        && (token = parser.nextToken()) != null
+        && token != JsonToken.NOT_AVAILABLE) {
+      onToken(token);
+    }
+  }
+
+  private void onToken(JsonToken token) throws IOException {
+    // 관심 없는 값(객체/배열)은 끝날 때까지 깊이만 셈
+    if (skipDepth > 0) {
+      if (token.isStructStart()) {
+        skipDepth++;
+      } else if (token.isStructEnd()) {
+        skipDepth--;
+      }
+      return;
+    }
+
+    switch (state) {
+      case START -> {
+        if (token == JsonToken.START_OBJECT) {
+          state = State.ROOT;
+        } else {
+          notObject = true;
+          state = State.DONE;
+        }
+      }
+      case ROOT -> {
+        if (token == JsonToken.FIELD_NAME) {
+          field = parser.currentName();
+        } else if (token == JsonToken.END_OBJECT) {
+          state = State.DONE;
+        } else if ("data".equals(field) && token == JsonToken.START_ARRAY) {
+          state = State.DATA;
+        } else {
+          skip(token);
+        }
+      }
+      case DATA -> {
+        if (token == JsonToken.START_OBJECT) {
+          index = position++;
+          hasEmbedding = false;
+          field = null;
+          state = State.ITEM;
+        } else if (token == JsonToken.END_ARRAY) {
+          field = null;
+          state = State.ROOT;
+        } else {
+          skip(token);
+        }
+      }
+      case ITEM -> {
+        if (token == JsonToken.FIELD_NAME) {
+          field = parser.currentName();
+        } else if (token == JsonToken.END_OBJECT) {
+          completeItem();
+          state = State.DATA;
+        } else if ("embedding".equals(field) && token == JsonToken.START_ARRAY) {
+          buffer = new float[INITIAL_CAPACITY];
+          size = 0;
+          state = State.EMBEDDING;
+        } else if ("index".equals(field) && token == JsonToken.VALUE_NUMBER_INT) {
+          index = parser.getIntValue();
+        } else {
+          skip(token);
+        }
+      }
+      case EMBEDDING -> {
+        if (token == JsonToken.END_ARRAY) {
+          hasEmbedding = true;
+          state = State.ITEM;
+        } else {
+          if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, size * 2);
+          }
+          buffer[size++] = parser.getFloatValue();
+        }
+      }
+      case DONE -> {}
+    }
+  }
+
+  private void completeItem() throws IOException {
+    if (index < 0 || index >= expectedCount) {
+      throw new IOException(
+          "embedding index out of range. index=" + index + ", expected=" + expectedCount);
+    }
+    if (hasEmbedding) {
+      out.set(index, size == buffer.length ? buffer : Arrays.copyOf(buffer, size));
+    }
+    buffer = null;
+  }
+
+  private void skip(JsonToken token) {
+    if (token.isStructStart()) {
+      skipDepth = 1;
+    }
+  }
+}
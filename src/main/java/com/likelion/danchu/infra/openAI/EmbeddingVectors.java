@@ -0,0 +1,116 @@
+package com.likelion.danchu.infra.openAI;
+
+/**
+ * 임베딩 벡터 연산 (정규화된 float32 / int8)
+ *
+ * <p>벡터는 저장 시점에 단위 길이로 정규화하므로 코사인 유사도는 내적 한 번으로 계산됩니다. 내적은 누산기 4개로 펼친 루프로, 의존 체인을 끊어 JIT가 파이프라인을 채울
+ * 수 있게 합니다. (JDK Vector API는 아직 incubator 모듈이라 실행 옵션이 필요해 쓰지 않음)
+ */
+public final class EmbeddingVectors {
+
+  private EmbeddingVectors() {}
+
+  /** 단위 벡터로 정규화한 float32 복사본 (영벡터는 그대로 0) */
+  public static float[] normalize(double[] vector) {
+    double norm = 0.0;
+    for (double v : vector) {
+      norm += v * v;
+    }
+    float[] out = new float[vector.length];
+    if (norm == 0.0) {
+      return out;
+    }
+    double inv = 1.0 / Math.sqrt(norm);
+    for (int i = 0; i < vector.length; i++) {
+      out[i] = (float) (vector[i] * inv);
+    }
+    return out;
+  }
+
+  /** 단위 벡터로 정규화 (제자리) */
+  public static float[] normalizeInPlace(float[] vector) {
+    double norm = 0.0;
+    for (float v : vector) {
+      norm += (double) v * v;
+    }
+    if (norm == 0.0) {
+      return vector;
+    }
+    float inv = (float) (1.0 / Math.sqrt(norm));
+    for (int i = 0; i < vector.length; i++) {
+      vector[i] *= inv;
+    }
+    return vector;
+  }
+
+  /** 두 단위 벡터의 내적 (= 코사인 유사도, 길이가 다르면 -1) */
+  public static float dot(float[] a, float[] b) {
+    if (a == null || b == null || a.length != b.length) {
+      return -1f;
+    }
+    return dot(a, b, 0, a.length);
+  }
+
+  /** {@code a} 와 {@code data[offset, offset + dim)} 의 내적 */
+  public static float dot(float[] a, float[] data, int offset, int dim) {
+    float s0 = 0f;
+    float s1 = 0f;
+    float s2 = 0f;
+    float s3 = 0f;
+    int i = 0;
+    int bound = dim - (dim & 3);
+    for (; i < bound; i += 4) {
+      s0 += a[i] * data[offset + i];
+      s1 += a[i + 1] * data[offset + i + 1];
+      s2 += a[i + 2] * data[offset + i + 2];
+      s3 += a[i + 3] * data[offset + i + 3];
+    }
+    for (; i < dim; i++) {
+      s0 += a[i] * data[offset + i];
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  /** {@code a} 와 int8 양자화 벡터 {@code data[offset, offset + dim)} 의 내적 (scale 적용 전) */
+  public static float dot(float[] a, byte[] data, int offset, int dim) {
+    float s0 = 0f;
+    float s1 = 0f;
+    float s2 = 0f;
+    float s3 = 0f;
+    int i = 0;
+    int bound = dim - (dim & 3);
+    for (; i < bound; i += 4) {
+      s0 += a[i] * data[offset + i];
+      s1 += a[i + 1] * data[offset + i + 1];
+      s2 += a[i + 2] * data[offset + i + 2];
+      s3 += a[i + 3] * data[offset + i + 3];
+    }
+    for (; i < dim; i++) {
+      s0 += a[i] * data[offset + i];
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  /**
+   * 대칭 int8 양자화 ({@code value ≈ q × scale}, scale = max|x| / 127)
+   *
+   * @param vector 원본 벡터
+   * @param out 양자화 결과를 쓸 배열
+   * @param offset 쓰기 시작 위치
+   * @return 이 벡터의 scale
+   */
+  public static float quantize(float[] vector, byte[] out, int offset) {
+    float max = 0f;
+    for (float v : vector) {
+      max = Math.max(max, Math.abs(v));
+    }
+    if (max == 0f) {
+      return 0f;
+    }
+    float scale = max / 127f;
+    for (int i = 0; i < vector.length; i++) {
+      out[offset + i] = (byte) Math.round(vector[i] / scale);
+    }
+    return scale;
+  }
+}
@@ -0,0 +1,95 @@
+package com.likelion.danchu.infra.openAI;
+
+import java.util.List;
+
+/**
+ * 단위 벡터 N개를 하나의 연속 배열에 담는 저장소 (읽기 전용)
+ *
+ * <p>벡터마다 객체/헤더를 두지 않고 {@code i * dimension} 위치에 이어 붙이므로 순차 스캔이 캐시 친화적입니다. int8 모드에서는 벡터마다 scale
+ * 하나만 추가로 두어 float32 대비 메모리가 약 1/4 입니다.
+ */
+public final class FlatVectorStore {
+
+  private static final FlatVectorStore EMPTY = new FlatVectorStore(0, 0, new float[0], null, null);
+
+  private final int dimension;
+  private final int size;
+  private final float[] floats; // float32 모드
+  private final byte[] bytes; // int8 모드
+  private final float[] scales; // int8 모드
+
+  private FlatVectorStore(int dimension, int size, float[] floats, byte[] bytes, float[] scales) {
+    this.dimension = dimension;
+    this.size = size;
+    this.floats = floats;
+    this.bytes = bytes;
+    this.scales = scales;
+  }
+
+  public static FlatVectorStore empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 단위 벡터 목록으로 저장소를 만듭니다.
+   *
+   * @param vectors 같은 차원의 단위 벡터 목록
+   * @param quantize true 이면 int8, false 이면 float32 로 보관
+   */
+  public static FlatVectorStore of(List<float[]> vectors, boolean quantize) {
+    if (vectors.isEmpty()) {
+      return EMPTY;
+    }
+    int dimension = vectors.get(0).length;
+    int size = vectors.size();
+    for (float[] v : vectors) {
+      if (v.length != dimension) {
+        throw new IllegalArgumentException("dimension mismatch: " + v.length + " != " + dimension);
+      }
+    }
+
+    if (quantize) {
+      byte[] bytes = new byte[size * dimension];
+      float[] scales = new float[size];
+      for (int i = 0; i < size; i++) {
+        scales[i] = EmbeddingVectors.quantize(vectors.get(i), bytes, i * dimension);
+      }
+      return new FlatVectorStore(dimension, size, null, bytes, scales);
+    }
+
+    float[] floats = new float[size * dimension];
+    for (int i = 0; i < size; i++) {
+      System.arraycopy(vectors.get(i), 0, floats, i * dimension, dimension);
+    }
+    return new FlatVectorStore(dimension, size, floats, null, null);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int dimension() {
+    return dimension;
+  }
+
+  /** 단위 질의 벡터와 i번째 벡터의 내적 (= 코사인 유사도) */
+  public float dot(float[] query, int index) {
+    if (query.length != dimension) {
+      throw new IllegalArgumentException(
+          "dimension mismatch: " + query.length + " != " + dimension);
+    }
+    int offset = index * dimension;
+    if (floats != null) {
+      return EmbeddingVectors.dot(query, floats, offset, dimension);
+    }
+    return EmbeddingVectors.dot(query, bytes, offset, dimension) * scales[index];
+  }
+
+  /** 벡터 데이터가 차지하는 대략적인 바이트 수 */
+  public long memoryBytes() {
+    if (floats != null) {
+      return (long) floats.length * Float.BYTES;
+    }
+    return bytes.length + (long) scales.length * Float.BYTES;
+  }
+}
@@ -1,11 +1,23 @@
 package com.likelion.danchu.infra.openAI;
 
-import java.util.List;
-
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class OpenAIConfig {
@@ -22,25 +34,112 @@ public class OpenAIConfig {
   @Value("${openai.timeout-millis}")
   private int timeoutMillis;
 
+  @Value("${openai.embedding-cache.local-size:2000}")
+  private int embeddingCacheLocalSize;
+
+  @Value("${openai.embedding-cache.ttl-seconds:2592000}")
+  private long embeddingCacheTtlSeconds;
+
+  @Value("${openai.embedding-batch.window-millis:5}")
+  private long embeddingBatchWindowMillis;
+
+  // /embeddings 요청 1건의 최대 입력 수 (API 한도 2048 이하)
+  @Value("${openai.embedding-batch.max-size:512}")
+  private int embeddingBatchMaxSize;
+
+  // 연속 실패(또는 느린 호출) 횟수가 이 값에 도달하면 서킷을 엶
+  @Value("${openai.circuit.failure-threshold:5}")
+  private int circuitFailureThreshold;
+
+  @Value("${openai.circuit.open-millis:30000}")
+  private long circuitOpenMillis;
+
+  @Value("${openai.circuit.slow-call-millis:2000}")
+  private long circuitSlowCallMillis;
+
+  @Value("${openai.http.max-connections:50}")
+  private int maxConnections;
+
+  @Value("${openai.http.max-connections-per-route:20}")
+  private int maxConnectionsPerRoute;
+
+  @Value("${openai.http.keep-alive-seconds:60}")
+  private long keepAliveSeconds;
+
+  /** OpenAI 전용 비동기 HTTP 클라이언트 (커넥션 풀 + keep-alive, 응답 대기 중 스레드를 점유하지 않음) */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpAsyncClient openAiHttpClient() {
+    PoolingAsyncClientConnectionManager connectionManager =
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnections)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(timeoutMillis))
+                    .setTimeToLive(TimeValue.ofMinutes(5))
+                    .build())
+            .build();
+
+    CloseableHttpAsyncClient client =
+        HttpAsyncClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(timeoutMillis))
+                    .setResponseTimeout(Timeout.ofMilliseconds(timeoutMillis))
+                    .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                    .build())
+            .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+            .build();
+    client.start();
+    return client;
+  }
+
+  /** 벡터 정규화/캐시 저장 등 후속 처리용 (HTTP I/O 스레드에서 블로킹 작업을 하지 않도록 분리) */
   @Bean
-  public RestTemplate openAiRestTemplate() {
-    var factory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
-    factory.setConnectTimeout(timeoutMillis);
-    factory.setReadTimeout(timeoutMillis);
-
-    RestTemplate rt = new RestTemplate(factory);
-    rt.setInterceptors(
-        List.of(
-            (req, body, ex) -> {
-              req.getHeaders().add("Authorization", "Bearer " + apiKey);
-              req.getHeaders().add("Accept", "application/json");
-              return ex.execute(req, body);
-            }));
-    return rt;
+  public ThreadPoolTaskExecutor openAiCallbackExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.setMaxPoolSize(16);
+    executor.setQueueCapacity(500);
+    executor.setThreadNamePrefix("openai-");
+    executor.initialize();
+    return executor;
   }
 
   @Bean
-  public OpenAIUtil openAiUtil(RestTemplate openAiRestTemplate) {
-    return new OpenAIUtil(openAiRestTemplate, baseUrl, embeddingModel);
+  public EmbeddingCache embeddingCache(RedisUtil redisUtil) {
+    return new EmbeddingCache(redisUtil, embeddingCacheLocalSize, embeddingCacheTtlSeconds);
+  }
+
+  /** /embeddings 호출 서킷 브레이커 (상태 게이지: 0=CLOSED, 1=OPEN, 2=HALF_OPEN) */
+  @Bean
+  public CircuitBreaker openAiCircuitBreaker(MeterRegistry meterRegistry) {
+    CircuitBreaker circuitBreaker =
+        new CircuitBreaker(
+            "openai-embeddings", circuitFailureThreshold, circuitOpenMillis, circuitSlowCallMillis);
+    Gauge.builder("openai.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+        .register(meterRegistry);
+    return circuitBreaker;
+  }
+
+  @Bean(destroyMethod = "shutdown")
+  public OpenAIUtil openAiUtil(
+      CloseableHttpAsyncClient openAiHttpClient,
+      ThreadPoolTaskExecutor openAiCallbackExecutor,
+      ObjectMapper objectMapper,
+      EmbeddingCache embeddingCache,
+      CircuitBreaker openAiCircuitBreaker) {
+    return new OpenAIUtil(
+        openAiHttpClient,
+        openAiCallbackExecutor,
+        objectMapper,
+        baseUrl,
+        apiKey,
+        embeddingModel,
+        embeddingCache,
+        embeddingBatchWindowMillis,
+        embeddingBatchMaxSize,
+        openAiCircuitBreaker);
   }
 }
@@ -1,55 +1,202 @@
 package com.likelion.danchu.infra.openAI;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
-import org.springframework.web.client.RestTemplate;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.likelion.danchu.domain.openAI.dto.request.OpenAIRequest;
-import com.likelion.danchu.domain.openAI.dto.response.OpenAIResponse;
 
 public class OpenAIUtil {
 
-  private final RestTemplate restTemplate;
+  private final CloseableHttpAsyncClient httpClient;
+  private final Executor callbackExecutor;
+  private final ObjectMapper objectMapper;
   private final String baseUrl;
+  private final String apiKey;
   private final String embeddingModel;
+  private final EmbeddingCache embeddingCache;
+  private final EmbeddingBatcher embeddingBatcher;
+  private final CircuitBreaker circuitBreaker;
 
-  public OpenAIUtil(RestTemplate restTemplate, String baseUrl, String embeddingModel) {
-    this.restTemplate = restTemplate;
+  public OpenAIUtil(
+      CloseableHttpAsyncClient httpClient,
+      Executor callbackExecutor,
+      ObjectMapper objectMapper,
+      String baseUrl,
+      String apiKey,
+      String embeddingModel,
+      EmbeddingCache embeddingCache,
+      long batchWindowMillis,
+      int batchMaxSize,
+      CircuitBreaker circuitBreaker) {
+    this.httpClient = httpClient;
+    this.callbackExecutor = callbackExecutor;
+    this.objectMapper = objectMapper;
     this.baseUrl = baseUrl;
+    this.apiKey = apiKey;
     this.embeddingModel = embeddingModel;
+    this.embeddingCache = embeddingCache;
+    this.circuitBreaker = circuitBreaker;
+    this.embeddingBatcher =
+        new EmbeddingBatcher(this::requestAndCache, batchWindowMillis, batchMaxSize);
   }
 
-  /** 여러 문장을 한 번에 임베딩 */
-  public List<double[]> embedAll(List<String> inputs) {
-    if (inputs == null || inputs.isEmpty()) return List.of();
+  public void shutdown() {
+    embeddingBatcher.shutdown();
+  }
+
+  /**
+   * 여러 문장을 한 번에 임베딩 (호출 스레드에서 결과를 기다림)
+   *
+   * <p>요청 스레드가 아닌 곳(배치/인덱스 재구성 등)에서 사용합니다. 요청 처리 경로에서는 {@link #embedAllAsync} 를 사용하세요.
+   */
+  public List<float[]> embedAll(List<String> inputs) {
+    try {
+      return embedAllAsync(inputs).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 여러 문장을 한 번에 임베딩 (논블로킹)
+   *
+   * <p>캐시에 있는 문장은 그대로 쓰고, 없는 문장만(중복 제거) {@link EmbeddingBatcher} 에 넘깁니다. 배처는 다른 요청의 문장과 함께 모아 한 번에
+   * 호출한 뒤 캐시에 저장합니다. 결과는 입력 순서와 같으며, 응답 개수가 맞지 않으면 예외로 완료됩니다. 모두 캐시에 있으면 이미 완료된 future 를 반환하고, 그렇지
+   * 않으면 후속 처리는 OpenAI 전용 실행기에서 이어집니다.
+   *
+   * @return 단위 길이로 정규화된 float32 벡터 목록 (유사도는 {@link EmbeddingVectors#dot} 로 계산)
+   */
+  public CompletableFuture<List<float[]>> embedAllAsync(List<String> inputs) {
+    if (inputs == null || inputs.isEmpty()) return CompletableFuture.completedFuture(List.of());
 
-    OpenAIRequest req = new OpenAIRequest(embeddingModel, inputs);
-    OpenAIResponse res =
-        restTemplate.postForObject(baseUrl + "/embeddings", req, OpenAIResponse.class);
+    List<String> distinct = List.copyOf(new LinkedHashSet<>(inputs));
+    Map<String, float[]> vectors = new HashMap<>(embeddingCache.getAll(embeddingModel, distinct));
 
-    if (res == null || res.getData() == null || res.getData().isEmpty()) return List.of();
+    List<String> misses = distinct.stream().filter(t -> !vectors.containsKey(t)).toList();
+    if (misses.isEmpty()) {
+      return CompletableFuture.completedFuture(inputs.stream().map(vectors::get).toList());
+    }
+
+    return embeddingBatcher
+        .submitAll(misses)
+        .thenApply(
+            fetched -> {
+              for (int i = 0; i < misses.size(); i++) {
+                vectors.put(misses.get(i), fetched.get(i));
+              }
+              return inputs.stream().map(vectors::get).toList();
+            });
+  }
 
-    List<double[]> out = new ArrayList<>(res.getData().size());
-    for (var d : res.getData()) {
-      List<Double> v = d.getEmbedding();
-      double[] arr = new double[v.size()];
-      for (int i = 0; i < v.size(); i++) arr[i] = v.get(i);
-      out.add(arr);
+  /**
+   * 배치 1건 호출 후 캐시 저장 (배처에서 호출)
+   *
+   * <p>서킷 브레이커를 거치므로 OpenAI 가 계속 실패하거나 느리면 호출 없이 {@link CircuitBreaker.OpenException} 으로 즉시 실패합니다.
+   * (캐시 적중분은 영향 없음)
+   */
+  private CompletableFuture<List<float[]>> requestAndCache(List<String> texts) {
+    circuitBreaker.acquire();
+    long start = System.nanoTime();
+    CompletableFuture<List<float[]>> request;
+    try {
+      request = requestAsync(texts);
+    } catch (RuntimeException e) {
+      // 동기 예외도 결과로 알려야 HALF_OPEN 시험 호출이 진행 중 상태로 남지 않음
+      request = CompletableFuture.failedFuture(e);
     }
-    return out;
+    return request
+        .whenComplete(
+            (fetched, e) ->
+                circuitBreaker.onResult((System.nanoTime() - start) / 1_000_000, e != null))
+        .thenApply(
+            fetched -> {
+              if (fetched.size() == texts.size()) {
+                Map<String, float[]> fresh = new HashMap<>();
+                for (int i = 0; i < texts.size(); i++) {
+                  fresh.put(texts.get(i), fetched.get(i));
+                }
+                embeddingCache.putAll(embeddingModel, fresh);
+              }
+              return fetched;
+            });
   }
 
-  /** 코사인 유사도 */
-  public static double cosine(double[] a, double[] b) {
-    if (a == null || b == null || a.length != b.length) return -1.0;
-    double dot = 0.0, na = 0.0, nb = 0.0;
-    for (int i = 0; i < a.length; i++) {
-      dot += a[i] * b[i];
-      na += a[i] * a[i];
-      nb += b[i] * b[i];
+  /** /embeddings 호출 (응답 본문을 받는 대로 디코딩해 index 순서의 정규화된 벡터로 반환) */
+  private CompletableFuture<List<float[]>> requestAsync(List<String> inputs) {
+    SimpleHttpRequest request;
+    EmbeddingResponseConsumer consumer;
+    try {
+      request =
+          SimpleRequestBuilder.post(baseUrl + "/embeddings")
+              .setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+              .setHeader(HttpHeaders.ACCEPT, "application/json")
+              .setBody(
+                  objectMapper.writeValueAsBytes(new OpenAIRequest(embeddingModel, inputs)),
+                  ContentType.APPLICATION_JSON)
+              .build();
+      consumer = new EmbeddingResponseConsumer(inputs.size());
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    CompletableFuture<EmbeddingResponseConsumer.Result> response = new CompletableFuture<>();
+    httpClient.execute(
+        SimpleRequestProducer.create(request),
+        consumer,
+        new FutureCallback<>() {
+          @Override
+          public void completed(EmbeddingResponseConsumer.Result result) {
+            response.complete(result);
+          }
+
+          @Override
+          public void failed(Exception ex) {
+            response.completeExceptionally(ex);
+          }
+
+          @Override
+          public void cancelled() {
+            response.cancel(false);
+          }
+        });
+
+    // 정규화/캐시 저장은 HTTP I/O 스레드가 아닌 전용 실행기에서 처리
+    return response.thenApplyAsync(this::toVectors, callbackExecutor);
+  }
+
+  private List<float[]> toVectors(EmbeddingResponseConsumer.Result result) {
+    if (result.status() >= 300) {
+      throw new IllegalStateException("OpenAI embeddings failed. status=" + result.status());
+    }
+    if (result.error() != null) {
+      throw new IllegalStateException(
+          "OpenAI embeddings response could not be parsed", result.error());
+    }
+
+    List<float[]> vectors = result.vectors();
+    if (vectors.isEmpty() || vectors.contains(null)) return List.of();
+
+    for (float[] v : vectors) {
+      EmbeddingVectors.normalizeInPlace(v);
     }
-    if (na == 0 || nb == 0) return -1.0;
-    return dot / (Math.sqrt(na) * Math.sqrt(nb));
+    return vectors;
   }
 }
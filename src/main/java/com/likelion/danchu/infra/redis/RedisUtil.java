@@ -1,9 +1,18 @@
 package com.likelion.danchu.infra.redis;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -37,6 +46,33 @@ public class RedisUtil {
     valueOperations.set(key, value, expireDuration);
   }
 
+  // 여러 키 한 번에 조회 (MGET, 없는 키는 null)
+  public List<String> multiGet(List<String> keys) {
+    List<String> values = template.opsForValue().multiGet(keys);
+    if (values == null) {
+      return Collections.nCopies(keys.size(), null);
+    }
+    return values;
+  }
+
+  // 여러 키를 파이프라인 한 번으로 저장 (만료시간 초 단위)
+  public void setAll(Map<String, String> values, long duration) {
+    if (values.isEmpty()) {
+      return;
+    }
+    template.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations) {
+            ValueOperations<String, String> ops =
+                ((RedisOperations<String, String>) operations).opsForValue();
+            values.forEach((key, value) -> ops.set(key, value, Duration.ofSeconds(duration)));
+            return null;
+          }
+        });
+  }
+
   // 데이터 삭제
   public void deleteData(String key) {
     template.delete(key);
@@ -57,4 +93,63 @@ public class RedisUtil {
     String value = getData(key);
     return value != null ? Long.parseLong(value) : 0L;
   }
+
+  // 만료 시간 설정
+  public void expire(String key, long duration) {
+    template.expire(key, Duration.ofSeconds(duration));
+  }
+
+  // 키 이름 변경 (대상 키가 있으면 덮어씀)
+  public void rename(String oldKey, String newKey) {
+    template.rename(oldKey, newKey);
+  }
+
+  // 정렬 집합(ZSET) 점수 증가
+  public Double incrementScore(String key, String member, double delta) {
+    return template.opsForZSet().incrementScore(key, member, delta);
+  }
+
+  // 정렬 집합(ZSET) 일괄 추가
+  public void addAllToSortedSet(String key, Set<TypedTuple<String>> tuples) {
+    template.opsForZSet().add(key, tuples);
+  }
+
+  // 정렬 집합(ZSET) 점수 높은 순 조회 (start~end, 0부터 시작)
+  public Set<TypedTuple<String>> reverseRangeWithScores(String key, long start, long end) {
+    return template.opsForZSet().reverseRangeWithScores(key, start, end);
+  }
+
+  // Lua 스크립트 실행 (여러 명령을 원자적으로 처리)
+  public <T> T execute(RedisScript<T> script, List<String> keys, String... args) {
+    return template.execute(script, keys, (Object[]) args);
+  }
+
+  // 집합에 멤버 추가 (SADD 한 번)
+  public void addToSet(String key, List<String> members) {
+    if (members.isEmpty()) {
+      return;
+    }
+    template.opsForSet().add(key, members.toArray(String[]::new));
+  }
+
+  // 집합 전체 조회 (키가 없으면 빈 집합)
+  public Set<String> getSetMembers(String key) {
+    Set<String> members = template.opsForSet().members(key);
+    return members != null ? members : Set.of();
+  }
+
+  // 해시 필드 값 증가
+  public Long incrementHash(String key, String field, long delta) {
+    return template.opsForHash().increment(key, field, delta);
+  }
+
+  // 해시 전체 조회
+  public Map<String, String> getHashEntries(String key) {
+    Map<String, String> entries = new HashMap<>();
+    template
+        .<String, String>opsForHash()
+        .entries(key)
+        .forEach((field, value) -> entries.put(field, value));
+    return entries;
+  }
 }
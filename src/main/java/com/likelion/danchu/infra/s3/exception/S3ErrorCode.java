@@ -19,7 +19,8 @@ public enum S3ErrorCode implements BaseErrorCode {
 
   FILE_SERVER_ERROR("IMG5001", "이미지 처리 중 서버 에러, 관리자에게 문의 바랍니다.", HttpStatus.INTERNAL_SERVER_ERROR),
   S3_CONNECTION_FAILED("IMG5002", "S3 연결 실패 또는 인증 오류입니다.", HttpStatus.INTERNAL_SERVER_ERROR),
-  IO_EXCEPTION("IMG5003", "이미지 업로드 중 입출력 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+  IO_EXCEPTION("IMG5003", "이미지 업로드 중 입출력 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+  FILE_DELETE_FAILED("IMG5004", "일부 이미지를 삭제하지 못했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
 
   private final String code;
   private final String message;
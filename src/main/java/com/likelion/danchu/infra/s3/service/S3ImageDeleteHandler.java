@@ -0,0 +1,32 @@
+package com.likelion.danchu.infra.s3.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.likelion.danchu.global.outbox.entity.OutboxEventType;
+import com.likelion.danchu.global.outbox.service.OutboxEventHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스에 예약된 S3 이미지 삭제 처리 (이미 없는 객체도 성공으로 처리되어 재전달에 안전)
+ *
+ * <p>S3가 키 삭제를 거부하면 예외를 던져 아웃박스가 백오프 후 재시도하도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class S3ImageDeleteHandler implements OutboxEventHandler {
+
+  private final S3Service s3Service;
+
+  @Override
+  public OutboxEventType getEventType() {
+    return OutboxEventType.S3_IMAGE_DELETE;
+  }
+
+  @Override
+  public void handle(String imageUrl) {
+    s3Service.deleteByUrlsOrThrow(List.of(imageUrl));
+  }
+}
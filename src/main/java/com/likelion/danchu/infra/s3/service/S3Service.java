@@ -4,6 +4,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -19,11 +20,15 @@ import com.likelion.danchu.infra.s3.exception.S3ErrorCode;
 import com.likelion.danchu.infra.s3.mapper.S3Mapper;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
+  private static final int MAX_KEYS_PER_DELETE = 1000;
+
   private final AmazonS3 amazonS3;
   private final S3Config s3Config;
   private final S3Mapper s3Mapper;
@@ -145,18 +150,84 @@ public class S3Service {
   /** 이미지 URL에서 keyName(path + fileName) 추출하여 파일을 삭제합니다. */
   public void deleteByUrl(String url) {
     try {
-      String bucketUrlPrefix =
-          "https://" + s3Config.getBucket() + ".s3." + s3Config.getRegion() + ".amazonaws.com/";
-      if (!url.startsWith(bucketUrlPrefix)) {
+      String keyName = extractKeyName(url);
+      if (keyName == null) {
         throw new CustomException(S3ErrorCode.FILE_NAME_MISSING);
       }
-      String keyName = url.substring(bucketUrlPrefix.length());
       deleteFile(keyName);
     } catch (Exception e) {
       throw new CustomException(S3ErrorCode.FILE_SERVER_ERROR);
     }
   }
 
+  /**
+   * 여러 이미지 URL을 Multi-Object Delete 요청(요청당 최대 1000개)으로 한 번에 삭제합니다.
+   *
+   * <p>버킷 URL이 아닌 항목은 건너뛰며, 존재하지 않는 키도 오류 없이 처리됩니다. 일부 키의 삭제 실패(AccessDenied 등)는 로그만 남기고 성공한 개수만
+   * 셉니다. (다음 주기에 다시 시도하는 정리 작업용)
+   *
+   * @return 실제로 삭제된 객체 수
+   */
+  public int deleteByUrls(List<String> urls) {
+    return deleteByUrls(urls, false);
+  }
+
+  /**
+   * {@link #deleteByUrls(List)} 와 같지만 한 키라도 삭제에 실패하면 예외를 던집니다. (아웃박스처럼 실패를 재시도해야 하는 경로용)
+   *
+   * @throws CustomException {@code FILE_DELETE_FAILED} - 일부 키를 삭제하지 못한 경우
+   */
+  public void deleteByUrlsOrThrow(List<String> urls) {
+    deleteByUrls(urls, true);
+  }
+
+  private int deleteByUrls(List<String> urls, boolean strict) {
+    List<DeleteObjectsRequest.KeyVersion> keys =
+        urls.stream()
+            .map(this::extractKeyName)
+            .filter(Objects::nonNull)
+            .distinct()
+            .map(DeleteObjectsRequest.KeyVersion::new)
+            .toList();
+
+    int deleted = 0;
+    for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+      List<DeleteObjectsRequest.KeyVersion> chunk =
+          keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+      try {
+        DeleteObjectsResult result =
+            amazonS3.deleteObjects(
+                new DeleteObjectsRequest(s3Config.getBucket()).withKeys(chunk).withQuiet(false));
+        deleted += result.getDeletedObjects().size();
+      } catch (MultiObjectDeleteException e) {
+        // 일부 키만 실패한 경우: 성공한 개수만 반영
+        deleted += e.getDeletedObjects().size();
+        for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+          log.warn("[S3] delete failed. key={}, code={}", error.getKey(), error.getCode());
+        }
+        if (strict && !e.getErrors().isEmpty()) {
+          throw new CustomException(S3ErrorCode.FILE_DELETE_FAILED);
+        }
+      } catch (AmazonS3Exception e) {
+        throw new CustomException(S3ErrorCode.S3_CONNECTION_FAILED);
+      }
+    }
+    return deleted;
+  }
+
+  /* 버킷 URL에서 keyName 추출 (버킷 URL이 아니면 null) */
+  private String extractKeyName(String url) {
+    if (url == null || url.isBlank()) {
+      return null;
+    }
+    String bucketUrlPrefix =
+        "https://" + s3Config.getBucket() + ".s3." + s3Config.getRegion() + ".amazonaws.com/";
+    if (!url.startsWith(bucketUrlPrefix)) {
+      return null;
+    }
+    return url.substring(bucketUrlPrefix.length());
+  }
+
   private void validateFile(MultipartFile file) {
     if (file.getSize() > 5 * 1024 * 1024) {
       throw new CustomException(S3ErrorCode.FILE_SIZE_INVALID);
@@ -0,0 +1,35 @@
+package com.likelion.danchu.infra.stream;
+
+import java.util.function.Consumer;
+
+/**
+ * 도메인 이벤트 스트림
+ *
+ * <p>커밋된 도메인 이벤트를 한 곳에 쌓고, 소비자 그룹마다 한 번씩 전달합니다. 같은 그룹의 여러 인스턴스는 메시지를 나눠 받습니다. 전달은 최소 1회이므로 핸들러는
+ * 재전달을 견딜 수 있어야 합니다. 구현은 {@code event.stream.type} 으로 선택합니다. ({@code redis} 기본, 테스트/로컬은 {@code
+ * memory})
+ */
+public interface DomainEventStream {
+
+  /** 이벤트 1건 발행 */
+  void publish(StreamEvent event);
+
+  /**
+   * 소비자 그룹 등록
+   *
+   * <p>핸들러가 정상 반환하면 처리 완료(ACK)로 간주하고, 예외를 던지면 보류 상태로 남겨 일정 시간 뒤 다시 전달합니다. (횟수 제한을 넘기면 dead-letter)
+   *
+   * @param group 소비자 그룹 이름
+   * @param handler 이벤트 처리기
+   */
+  void subscribe(String group, Consumer<StreamEvent> handler);
+
+  /**
+   * 모든 인스턴스가 모든 이벤트를 받는 구독 (그룹/ACK 없음)
+   *
+   * <p>인스턴스 메모리 상태(실시간 푸시 등)를 갱신하는 용도로, 구독 이후 발행된 이벤트만 전달되며 실패해도 재전달하지 않습니다.
+   *
+   * @param handler 이벤트 처리기
+   */
+  void subscribeAll(Consumer<StreamEvent> handler);
+}
@@ -0,0 +1,9 @@
+package com.likelion.danchu.infra.stream;
+
+/** 이벤트 스트림으로 발행되는 도메인 이벤트 종류 */
+public enum DomainEventType {
+  MISSION_COMPLETED,
+  STAMP_ACCRUED,
+  COUPON_ISSUED,
+  MISSION_CATALOG_CHANGED
+}
@@ -0,0 +1,55 @@
+package com.likelion.danchu.infra.stream;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 이벤트 스트림 (테스트/로컬용)
+ *
+ * <p>발행 스레드에서 그룹별 핸들러를 바로 호출합니다. 보관/재전달은 하지 않으므로 운영에서는 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.stream.type", havingValue = "memory")
+public class InMemoryDomainEventStream implements DomainEventStream {
+
+  private final Map<String, Consumer<StreamEvent>> handlers = new ConcurrentHashMap<>();
+  private final List<Consumer<StreamEvent>> broadcastHandlers = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(StreamEvent event) {
+    handlers.forEach(
+        (group, handler) -> {
+          try {
+            handler.accept(event);
+          } catch (RuntimeException e) {
+            log.warn("[EventStream] handler failed. group={}, type={}", group, event.type(), e);
+          }
+        });
+    for (Consumer<StreamEvent> handler : broadcastHandlers) {
+      try {
+        handler.accept(event);
+      } catch (RuntimeException e) {
+        log.warn("[EventStream] broadcast handler failed. type={}", event.type(), e);
+      }
+    }
+  }
+
+  @Override
+  public void subscribe(String group, Consumer<StreamEvent> handler) {
+    handlers.put(group, handler);
+  }
+
+  @Override
+  public void subscribeAll(Consumer<StreamEvent> handler) {
+    broadcastHandlers.add(handler);
+  }
+}
@@ -0,0 +1,212 @@
+package com.likelion.danchu.infra.stream;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Stream 기반 이벤트 스트림 (기본 구현)
+ *
+ * <p>발행은 {@code XADD key MAXLEN ~ n}, 소비는 그룹별 {@code XREADGROUP} 폴링 후 처리 성공 시에만 {@code XACK} 합니다.
+ * 처리에 실패했거나 처리 중 인스턴스가 죽어 보류 목록(PEL)에 남은 메시지는 {@code event.stream.reclaim-interval-millis} 마다 다시
+ * 가져와 처리하고, {@code event.stream.max-deliveries} 번을 넘기면 dead-letter 스트림으로 옮깁니다. ({@link
+ * StreamGroupProcessor})
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.stream.type", havingValue = "redis", matchIfMissing = true)
+public class RedisDomainEventStream implements DomainEventStream {
+
+  private final StringRedisTemplate template;
+  private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+  private final String streamKey;
+  private final long maxLength;
+  private final String consumerName;
+  private final StreamGroupProcessor processor;
+  private final Map<String, Consumer<StreamEvent>> groups = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService reclaimer;
+
+  public RedisDomainEventStream(
+      StringRedisTemplate template,
+      RedisConnectionFactory connectionFactory,
+      @Value("${event.stream.key:danchu:events}") String streamKey,
+      @Value("${event.stream.max-length:100000}") long maxLength,
+      @Value("${event.stream.batch-size:100}") int batchSize,
+      @Value("${event.stream.reclaim-interval-millis:30000}") long reclaimIntervalMillis,
+      @Value("${event.stream.reclaim-min-idle-millis:60000}") long reclaimMinIdleMillis,
+      @Value("${event.stream.max-deliveries:5}") long maxDeliveries) {
+    this.template = template;
+    this.streamKey = streamKey;
+    this.maxLength = maxLength;
+    this.consumerName = resolveConsumerName();
+    this.processor =
+        new StreamGroupProcessor(
+            template.opsForStream(),
+            streamKey,
+            consumerName,
+            Duration.ofMillis(reclaimMinIdleMillis),
+            maxDeliveries,
+            batchSize,
+            maxLength);
+
+    StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+        StreamMessageListenerContainerOptions.builder()
+            .pollTimeout(Duration.ofSeconds(1))
+            .batchSize(batchSize)
+            .errorHandler(e -> log.warn("[EventStream] poll failed. key={}", streamKey, e))
+            .build();
+    this.container = StreamMessageListenerContainer.create(connectionFactory, options);
+    this.container.start();
+
+    this.reclaimer =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "event-stream-reclaimer");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.reclaimer.scheduleWithFixedDelay(
+        this::reclaimAll, reclaimIntervalMillis, reclaimIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void publish(StreamEvent event) {
+    template
+        .opsForStream()
+        .add(
+            MapRecord.create(streamKey, event.toRecord()),
+            XAddOptions.maxlen(maxLength).approximateTrimming(true));
+  }
+
+  @Override
+  public void subscribe(String group, Consumer<StreamEvent> handler) {
+    createGroupIfAbsent(group);
+
+    StreamReadRequest<String> request =
+        StreamReadRequest.builder(StreamOffset.create(streamKey, ReadOffset.lastConsumed()))
+            .consumer(
+                org.springframework.data.redis.connection.stream.Consumer.from(group, consumerName))
+            .autoAcknowledge(false)
+            .cancelOnError(e -> false) // Redis 일시 장애에도 구독 유지
+            .errorHandler(e -> log.warn("[EventStream] read failed. group={}", group, e))
+            .build();
+
+    groups.put(group, handler);
+    container.register(
+        request, message -> processor.deliver(group, handler, message.getId(), message.getValue()));
+  }
+
+  @Override
+  public void subscribeAll(Consumer<StreamEvent> handler) {
+    // 그룹 없이 XREAD 로 구독 시점 이후 레코드만 읽음 (ACK 없음)
+    // $ 로 등록하면 컨테이너가 매 폴링을 $ 로 다시 읽어 폴링 사이에 추가된 레코드를 놓치므로, 현재 마지막 ID 부터 이어 읽음
+    StreamReadRequest<String> request =
+        StreamReadRequest.builder(StreamOffset.create(streamKey, lastEntryOffset()))
+            .cancelOnError(e -> false)
+            .errorHandler(
+                e -> log.warn("[EventStream] broadcast read failed. key={}", streamKey, e))
+            .build();
+
+    container.register(
+        request,
+        message -> {
+          try {
+            handler.accept(StreamEvent.fromRecord(message.getValue()));
+          } catch (RuntimeException e) {
+            log.warn("[EventStream] broadcast handler failed. id={}", message.getId(), e);
+          }
+        });
+  }
+
+  /** 현재 마지막 레코드 ID (빈 스트림이면 0-0, Redis 장애 시 $) */
+  private ReadOffset lastEntryOffset() {
+    try {
+      List<MapRecord<String, Object, Object>> last =
+          template
+              .opsForStream()
+              .reverseRange(streamKey, Range.unbounded(), Limit.limit().count(1));
+      if (last == null || last.isEmpty()) {
+        return ReadOffset.from("0-0");
+      }
+      return ReadOffset.from(last.get(0).getId());
+    } catch (DataAccessException e) {
+      log.warn("[EventStream] last id lookup failed, reading from $. key={}", streamKey, e);
+      return ReadOffset.latest();
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    reclaimer.shutdownNow();
+    container.stop();
+  }
+
+  /** 모든 그룹의 오래 보류된 메시지 재처리 */
+  private void reclaimAll() {
+    groups.forEach(
+        (group, handler) -> {
+          try {
+            int recovered = processor.reclaim(group, handler);
+            if (recovered > 0) {
+              log.info("[EventStream] reclaimed pending. group={}, count={}", group, recovered);
+            }
+          } catch (RuntimeException e) {
+            log.warn("[EventStream] reclaim failed. group={}", group, e);
+          }
+        });
+  }
+
+  /** 그룹이 없으면 생성 (스트림이 없으면 함께 생성, 이미 있으면 BUSYGROUP 무시) */
+  private void createGroupIfAbsent(String group) {
+    try {
+      template.execute(
+          (RedisCallback<String>)
+              connection ->
+                  connection
+                      .streamCommands()
+                      .xGroupCreate(streamKey.getBytes(), group, ReadOffset.from("$"), true));
+    } catch (DataAccessException e) {
+      String message = e.getMostSpecificCause().getMessage();
+      if (message == null || !message.contains("BUSYGROUP")) {
+        log.warn("[EventStream] create group failed. group={}", group, e);
+      }
+    }
+  }
+
+  private static String resolveConsumerName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return "consumer-" + UUID.randomUUID();
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.likelion.danchu.infra.stream;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 스트림 메시지 (종류 + 문자열 필드)
+ *
+ * <p>Redis Stream 레코드의 필드 맵과 그대로 대응하도록 값은 모두 문자열로 보관합니다.
+ *
+ * @param type 이벤트 종류
+ * @param fields 이벤트 필드 (userId, storeId, date 등)
+ */
+public record StreamEvent(DomainEventType type, Map<String, String> fields) {
+
+  static final String TYPE_FIELD = "type";
+
+  public static StreamEvent of(DomainEventType type, Map<String, String> fields) {
+    return new StreamEvent(type, Map.copyOf(fields));
+  }
+
+  public String get(String field) {
+    return fields.get(field);
+  }
+
+  public Long getLong(String field) {
+    String value = fields.get(field);
+    return value == null ? null : Long.valueOf(value);
+  }
+
+  /** 스트림 레코드 필드로 변환 (type 포함) */
+  Map<String, String> toRecord() {
+    Map<String, String> record = new HashMap<>(fields);
+    record.put(TYPE_FIELD, type.name());
+    return record;
+  }
+
+  /** 스트림 레코드 필드에서 복원 */
+  static StreamEvent fromRecord(Map<String, String> record) {
+    Map<String, String> fields = new HashMap<>(record);
+    DomainEventType type = DomainEventType.valueOf(fields.remove(TYPE_FIELD));
+    return new StreamEvent(type, Map.copyOf(fields));
+  }
+}
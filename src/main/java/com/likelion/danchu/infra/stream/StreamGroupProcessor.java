@@ -0,0 +1,144 @@
+package com.likelion.danchu.infra.stream;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 소비자 그룹 메시지 처리 (ACK + 보류 메시지 회수)
+ *
+ * <p>핸들러가 성공하면 {@code XACK}, 실패하면 보류 목록(PEL)에 남깁니다. {@link #reclaim} 은 {@code minIdle} 이상 처리되지 않은
+ * 보류 메시지를 {@code XPENDING} 으로 찾아 {@code XCLAIM} 으로 가져와 다시 처리합니다. (다른 인스턴스가 죽으며 남긴 메시지 포함) 전달 횟수가
+ * {@code maxDeliveries} 를 넘은 메시지는 dead-letter 스트림({@code {key}:dead-letter})으로 옮기고 ACK 합니다.
+ */
+@Slf4j
+class StreamGroupProcessor {
+
+  static final String DEAD_LETTER_SUFFIX = ":dead-letter";
+
+  private final StreamOperations<String, Object, Object> operations;
+  private final String streamKey;
+  private final String consumerName;
+  private final Duration minIdle;
+  private final long maxDeliveries;
+  private final int batchSize;
+  private final long maxLength;
+
+  StreamGroupProcessor(
+      StreamOperations<String, Object, Object> operations,
+      String streamKey,
+      String consumerName,
+      Duration minIdle,
+      long maxDeliveries,
+      int batchSize,
+      long maxLength) {
+    this.operations = operations;
+    this.streamKey = streamKey;
+    this.consumerName = consumerName;
+    this.minIdle = minIdle;
+    this.maxDeliveries = maxDeliveries;
+    this.batchSize = batchSize;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * 메시지 1건 처리 후 성공 시 ACK
+   *
+   * @return 처리 성공 여부 (실패 시 보류 상태로 남음)
+   */
+  boolean deliver(String group, Consumer<StreamEvent> handler, RecordId id, Map<?, ?> fields) {
+    try {
+      handler.accept(StreamEvent.fromRecord(toStringMap(fields)));
+      operations.acknowledge(streamKey, group, id);
+      return true;
+    } catch (RuntimeException e) {
+      log.warn("[EventStream] handler failed, left pending. group={}, id={}", group, id, e);
+      return false;
+    }
+  }
+
+  /**
+   * 오래 보류된 메시지를 가져와 다시 처리합니다.
+   *
+   * @return 다시 처리에 성공한 메시지 수
+   */
+  int reclaim(String group, Consumer<StreamEvent> handler) {
+    PendingMessages pending = operations.pending(streamKey, group, Range.unbounded(), batchSize);
+    Map<RecordId, Long> deliveries = new HashMap<>();
+    for (PendingMessage message : pending) {
+      if (message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+        deliveries.put(message.getId(), message.getTotalDeliveryCount());
+      }
+    }
+    if (deliveries.isEmpty()) {
+      return 0;
+    }
+
+    List<MapRecord<String, Object, Object>> claimed =
+        operations.claim(
+            streamKey, group, consumerName, minIdle, deliveries.keySet().toArray(RecordId[]::new));
+
+    int recovered = 0;
+    Set<RecordId> seen = new HashSet<>();
+    for (MapRecord<String, Object, Object> record : claimed) {
+      RecordId id = record.getId();
+      seen.add(id);
+      // XCLAIM 으로 전달 횟수가 1 늘어남
+      if (deliveries.getOrDefault(id, 0L) + 1 > maxDeliveries) {
+        deadLetter(group, id, record.getValue(), deliveries.get(id) + 1);
+      } else if (deliver(group, handler, id, record.getValue())) {
+        recovered++;
+      }
+    }
+
+    // 보류 중이지만 스트림에서 이미 잘려 나간(MAXLEN) 메시지는 처리할 수 없으므로 정리
+    List<RecordId> trimmed = new ArrayList<>();
+    for (RecordId id : deliveries.keySet()) {
+      if (!seen.contains(id)) {
+        trimmed.add(id);
+      }
+    }
+    if (!trimmed.isEmpty()) {
+      operations.acknowledge(streamKey, group, trimmed.toArray(RecordId[]::new));
+      log.warn("[EventStream] dropped trimmed pending. group={}, ids={}", group, trimmed);
+    }
+    return recovered;
+  }
+
+  private void deadLetter(String group, RecordId id, Map<?, ?> fields, long deliveryCount) {
+    Map<String, String> record = toStringMap(fields);
+    record.put("deadLetter.group", group);
+    record.put("deadLetter.id", id.getValue());
+    record.put("deadLetter.deliveries", String.valueOf(deliveryCount));
+    operations.add(
+        MapRecord.create(streamKey + DEAD_LETTER_SUFFIX, record),
+        XAddOptions.maxlen(maxLength).approximateTrimming(true));
+    operations.acknowledge(streamKey, group, id);
+    log.error(
+        "[EventStream] moved to dead-letter. group={}, id={}, deliveries={}",
+        group,
+        id,
+        deliveryCount);
+  }
+
+  private static Map<String, String> toStringMap(Map<?, ?> fields) {
+    Map<String, String> out = new HashMap<>();
+    fields.forEach((k, v) -> out.put(String.valueOf(k), String.valueOf(v)));
+    return out;
+  }
+}
@@ -0,0 +1,82 @@
+package com.likelion.danchu.domain.mission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.likelion.danchu.domain.user.repository.UserRepository;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+@ExtendWith(MockitoExtension.class)
+class MissionCompletionSetTest {
+
+  private static final LocalDate DATE = LocalDate.of(2025, 8, 1);
+  private static final String KEY = "mission:completed:2025-08-01:7";
+
+  @Mock private RedisUtil redisUtil;
+  @Mock private UserRepository userRepository;
+  @InjectMocks private MissionCompletionSet missionCompletionSet;
+
+  @Test
+  void 적재_표시가_없으면_DB에서_채우고_표시를_남긴다() {
+    when(redisUtil.getSetMembers(KEY)).thenReturn(Set.of());
+    when(userRepository.findCompletedMissionIdsByDate(7L, DATE)).thenReturn(List.of(1_000_003L));
+
+    Set<Long> completed =
+        missionCompletionSet.findCompleted(DATE, 7L, List.of(1_000_001L, 1_000_003L));
+
+    assertThat(completed).containsExactly(1_000_003L);
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<String>> members = ArgumentCaptor.forClass(List.class);
+    verify(redisUtil).addToSet(eq(KEY), members.capture());
+    assertThat(members.getValue())
+        .containsExactlyInAnyOrder("1000003", MissionCompletionSet.HYDRATED_MEMBER);
+    verify(redisUtil).expire(eq(KEY), anyLong());
+  }
+
+  @Test
+  void 적재된_키는_DB를_읽지_않고_요청한_미션만_반환한다() {
+    when(redisUtil.getSetMembers(KEY))
+        .thenReturn(Set.of(MissionCompletionSet.HYDRATED_MEMBER, "5", "9"));
+
+    Set<Long> completed = missionCompletionSet.findCompleted(DATE, 7L, List.of(5L, 6L));
+
+    assertThat(completed).containsExactly(5L);
+    verify(userRepository, never()).findCompletedMissionIdsByDate(any(), any());
+    verify(redisUtil, never()).addToSet(anyString(), anyList());
+  }
+
+  @Test
+  void 적재_전에_들어온_완료도_적재_결과와_합친다() {
+    when(redisUtil.getSetMembers(KEY)).thenReturn(Set.of("6"));
+    when(userRepository.findCompletedMissionIdsByDate(7L, DATE)).thenReturn(List.of(5L));
+
+    assertThat(missionCompletionSet.findCompleted(DATE, 7L, List.of(5L, 6L, 8L)))
+        .containsExactlyInAnyOrder(5L, 6L);
+  }
+
+  @Test
+  void 완료는_미션_ID_하나만_멤버로_추가한다() {
+    missionCompletionSet.markCompleted(DATE, 7L, 123_456_789L);
+
+    verify(redisUtil).addToSet(KEY, List.of("123456789"));
+    verify(redisUtil).expire(eq(KEY), anyLong());
+  }
+}
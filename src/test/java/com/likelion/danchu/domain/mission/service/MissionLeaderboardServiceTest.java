@@ -0,0 +1,124 @@
+package com.likelion.danchu.domain.mission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.domain.mission.service.MissionLeaderboardService.Entry;
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+@ExtendWith(MockitoExtension.class)
+class MissionLeaderboardServiceTest {
+
+  private static final LocalDate DATE = LocalDate.of(2025, 8, 1);
+  private static final String KEY = "mission:popular:2025-08-01";
+
+  @Mock private RedisUtil redisUtil;
+  @Mock private MissionRepository missionRepository;
+  @InjectMocks private MissionLeaderboardService leaderboardService;
+
+  @Test
+  void 적재된_키에는_점수만_올린다() {
+    when(redisUtil.execute(any(), eq(List.of(KEY)), any(String[].class))).thenReturn(1L);
+
+    leaderboardService.increment(DATE, 3L);
+
+    verify(missionRepository, never()).findCompletionCountsByDate(any());
+    verify(redisUtil, never()).rename(anyString(), anyString());
+  }
+
+  @Test
+  void 적재되지_않은_키는_점수를_올리지_않고_DB로_재구성한다() {
+    when(redisUtil.execute(any(), eq(List.of(KEY)), any(String[].class))).thenReturn(0L);
+    when(missionRepository.findCompletionCountsByDate(DATE))
+        .thenReturn(List.<Object[]>of(new Object[] {3L, 4L}, new Object[] {5L, 9L}));
+
+    leaderboardService.increment(DATE, 3L);
+
+    Set<TypedTuple<String>> tuples = captureRebuiltTuples();
+    assertThat(tuples)
+        .extracting(TypedTuple::getValue)
+        .containsExactly(MissionLeaderboardService.HYDRATED_MEMBER, "5", "3");
+    verify(redisUtil, never()).incrementScore(anyString(), anyString(), any(Double.class));
+  }
+
+  @Test
+  void 완료_이력이_없는_날도_적재_표시를_남긴다() {
+    when(missionRepository.findCompletionCountsByDate(DATE)).thenReturn(List.of());
+
+    List<Entry> entries = leaderboardService.rebuild(DATE);
+
+    assertThat(entries).isEmpty();
+    assertThat(captureRebuiltTuples())
+        .extracting(TypedTuple::getValue)
+        .containsExactly(MissionLeaderboardService.HYDRATED_MEMBER);
+    verify(redisUtil, never()).deleteData(anyString());
+  }
+
+  @Test
+  void 적재_표시만_있으면_DB를_읽지_않고_빈_목록을_반환한다() {
+    when(redisUtil.reverseRangeWithScores(KEY, 0, 5))
+        .thenReturn(tuples(MissionLeaderboardService.HYDRATED_MEMBER, -1));
+
+    assertThat(leaderboardService.getTop(DATE, 5)).isEmpty();
+    verify(missionRepository, never()).findCompletionCountsByDate(any());
+  }
+
+  @Test
+  void 적재된_키에서_상위_N개를_표시_없이_반환한다() {
+    when(redisUtil.reverseRangeWithScores(KEY, 0, 2)).thenReturn(tuples("5", 9, "3", 4, "8", 1));
+
+    assertThat(leaderboardService.getTop(DATE, 2))
+        .containsExactly(new Entry(5L, 9), new Entry(3L, 4));
+    verify(missionRepository, never()).findCompletionCountsByDate(any());
+  }
+
+  @Test
+  void 키가_없으면_DB로_재구성해_반환한다() {
+    when(redisUtil.reverseRangeWithScores(KEY, 0, 5)).thenReturn(Set.of());
+    when(missionRepository.findCompletionCountsByDate(DATE))
+        .thenReturn(List.<Object[]>of(new Object[] {3L, 4L}));
+
+    assertThat(leaderboardService.getTop(DATE, 5)).containsExactly(new Entry(3L, 4));
+    verify(redisUtil).rename(startsWith(KEY + ":rebuild:"), eq(KEY));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Set<TypedTuple<String>> captureRebuiltTuples() {
+    ArgumentCaptor<Set<TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+    verify(redisUtil).addAllToSortedSet(startsWith(KEY + ":rebuild:"), captor.capture());
+    verify(redisUtil).expire(startsWith(KEY + ":rebuild:"), anyLong());
+    return captor.getValue();
+  }
+
+  private Set<TypedTuple<String>> tuples(Object... memberAndScore) {
+    Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+    for (int i = 0; i < memberAndScore.length; i += 2) {
+      tuples.add(
+          new DefaultTypedTuple<>(
+              (String) memberAndScore[i], ((Number) memberAndScore[i + 1]).doubleValue()));
+    }
+    return tuples;
+  }
+}
@@ -0,0 +1,87 @@
+package com.likelion.danchu.domain.openAI.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.likelion.danchu.domain.mission.repository.MissionRepository;
+import com.likelion.danchu.domain.openAI.service.RecommendResultStore.Kind;
+import com.likelion.danchu.domain.user.repository.UserHashtagRepository;
+import com.likelion.danchu.domain.user.repository.UserRepository;
+import com.likelion.danchu.infra.openAI.OpenAIUtil;
+
+class RecommendBatchServiceTest {
+
+  private final UserRepository userRepository = mock(UserRepository.class);
+  private final UserHashtagRepository userHashtagRepository = mock(UserHashtagRepository.class);
+  private final MissionRepository missionRepository = mock(MissionRepository.class);
+  private final StoreRecommendService storeRecommendService = mock(StoreRecommendService.class);
+  private final StoreEmbeddingIndex storeEmbeddingIndex = mock(StoreEmbeddingIndex.class);
+  private final RecommendResultStore recommendResultStore = mock(RecommendResultStore.class);
+  private final OpenAIUtil openAIUtil = mock(OpenAIUtil.class);
+
+  private RecommendBatchService recommendBatchService;
+
+  @BeforeEach
+  void setUp() {
+    recommendBatchService =
+        new RecommendBatchService(
+            userRepository,
+            userHashtagRepository,
+            missionRepository,
+            storeRecommendService,
+            storeEmbeddingIndex,
+            recommendResultStore,
+            openAIUtil);
+    ReflectionTestUtils.setField(recommendBatchService, "chunkSize", 10);
+    ReflectionTestUtils.setField(recommendBatchService, "parallelism", 1);
+    ReflectionTestUtils.setField(recommendBatchService, "useEmbeddings", true);
+
+    when(storeRecommendService.loadAllResponses()).thenReturn(Map.of());
+    when(userRepository.findIdsAfter(anyLong(), any())).thenReturn(List.of(1L));
+    when(userHashtagRepository.findUserIdAndHashtagNameByUserIdIn(List.of(1L)))
+        .thenReturn(List.of(new Object[] {1L, "#카페"}, new Object[] {1L, "#디저트"}));
+    when(recommendResultStore.currentVersions(Kind.STORES, List.of(1L)))
+        .thenReturn(Map.of(1L, "3"));
+    when(storeEmbeddingIndex.isEmpty()).thenReturn(false);
+  }
+
+  @Test
+  void 임베딩_실패시_1차_순서_결과를_저장하지_않음() throws Exception {
+    when(openAIUtil.embedAll(anyList())).thenThrow(new IllegalStateException("circuit open"));
+
+    RecommendBatchService.Result result = recommendBatchService.recomputeAllStores();
+
+    assertThat(result.users()).isZero();
+    assertThat(result.degraded()).isEqualTo(1);
+    assertThat(result.skipped()).isZero();
+    verify(recommendResultStore, never()).saveAll(any(), any(), any());
+  }
+
+  @Test
+  void 태그를_정렬한_문장으로_임베딩하고_결과를_저장() throws Exception {
+    float[] vector = {1f, 0f};
+    when(openAIUtil.embedAll(List.of("디저트 카페"))).thenReturn(List.of(vector));
+    when(storeRecommendService.rank(eq(List.of("#디저트", "#카페")), any(), eq(vector)))
+        .thenReturn(List.of());
+
+    RecommendBatchService.Result result = recommendBatchService.recomputeAllStores();
+
+    assertThat(result.users()).isEqualTo(1);
+    assertThat(result.degraded()).isZero();
+    verify(recommendResultStore).saveAll(eq(Kind.STORES), any(), eq(Map.of(1L, "3")));
+  }
+}
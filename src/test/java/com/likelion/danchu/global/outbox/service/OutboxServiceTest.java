@@ -0,0 +1,97 @@
+package com.likelion.danchu.global.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.likelion.danchu.global.outbox.entity.OutboxEvent;
+import com.likelion.danchu.global.outbox.entity.OutboxEventType;
+import com.likelion.danchu.global.outbox.entity.OutboxStatus;
+import com.likelion.danchu.global.outbox.repository.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboxServiceTest {
+
+  private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+  private final OutboxEventHandler handler = mock(OutboxEventHandler.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final TransactionStatus transaction = mock(TransactionStatus.class);
+
+  private OutboxService outboxService;
+  private OutboxEvent event;
+
+  @BeforeEach
+  void setUp() {
+    when(handler.getEventType()).thenReturn(OutboxEventType.S3_IMAGE_DELETE);
+    when(transactionManager.getTransaction(any())).thenReturn(transaction);
+    outboxService =
+        new OutboxService(
+            repository, List.of(handler), new SimpleMeterRegistry(), transactionManager);
+    ReflectionTestUtils.setField(outboxService, "maxAttempts", 2);
+    ReflectionTestUtils.setField(outboxService, "backoffBaseSeconds", 5L);
+    ReflectionTestUtils.setField(outboxService, "backoffMaxSeconds", 60L);
+    ReflectionTestUtils.setField(outboxService, "leaseSeconds", 300L);
+
+    event =
+        OutboxEvent.builder()
+            .id(1L)
+            .eventType(OutboxEventType.S3_IMAGE_DELETE)
+            .payload("https://bucket/a.png")
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    when(repository.findDispatchable(any(), anyInt())).thenReturn(List.of(event));
+  }
+
+  @Test
+  void 선점_트랜잭션을_커밋한_뒤_외부_작업을_실행하고_성공하면_삭제한다() {
+    int count = outboxService.dispatchPending(10);
+
+    assertThat(count).isEqualTo(1);
+    assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(200));
+    InOrder order = inOrder(repository, transactionManager, handler);
+    order.verify(repository).findDispatchable(any(), anyInt());
+    order.verify(transactionManager).commit(transaction);
+    order.verify(handler).handle("https://bucket/a.png");
+    order.verify(repository).deleteById(1L);
+  }
+
+  @Test
+  void 실패하면_삭제하지_않고_재시도를_예약한다() {
+    doThrow(new IllegalStateException("AccessDenied")).when(handler).handle(any());
+    OutboxEvent managed =
+        OutboxEvent.builder()
+            .id(1L)
+            .eventType(OutboxEventType.S3_IMAGE_DELETE)
+            .payload("https://bucket/a.png")
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    when(repository.findById(1L)).thenReturn(Optional.of(managed));
+
+    outboxService.dispatchPending(10);
+    outboxService.dispatchPending(10);
+
+    verify(repository, never()).deleteById(any());
+    assertThat(managed.getAttempts()).isEqualTo(2);
+    assertThat(managed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+    assertThat(managed.getLastError()).contains("AccessDenied");
+  }
+}
@@ -0,0 +1,89 @@
+package com.likelion.danchu.infra.openAI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import com.likelion.danchu.infra.openAI.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+  private static final long SLOW_CALL_MILLIS = 1_000;
+
+  @Test
+  void 연속_실패가_임계값에_도달하면_열리고_호출을_막는다() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 3, 60_000, SLOW_CALL_MILLIS);
+
+    fail(breaker);
+    fail(breaker);
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    fail(breaker);
+
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+    assertThatThrownBy(breaker::acquire).isInstanceOf(CircuitBreaker.OpenException.class);
+  }
+
+  @Test
+  void 성공하면_연속_실패_수가_초기화된다() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 2, 60_000, SLOW_CALL_MILLIS);
+
+    fail(breaker);
+    succeed(breaker);
+    fail(breaker);
+
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void 느린_호출도_실패로_센다() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, 60_000, SLOW_CALL_MILLIS);
+
+    breaker.acquire();
+    breaker.onResult(SLOW_CALL_MILLIS, false);
+
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void 열림_시간이_지나면_시험_호출_1건만_허용한다() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, 0, SLOW_CALL_MILLIS);
+    fail(breaker);
+
+    breaker.acquire();
+
+    assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+    assertThatThrownBy(breaker::acquire).isInstanceOf(CircuitBreaker.OpenException.class);
+  }
+
+  @Test
+  void 시험_호출이_성공하면_닫힌다() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, 0, SLOW_CALL_MILLIS);
+    fail(breaker);
+
+    succeed(breaker);
+
+    assertThat(breaker.state()).isEqualTo(State.CLOSED);
+    breaker.acquire();
+  }
+
+  @Test
+  void 시험_호출이_실패하면_다시_열린다() {
+    CircuitBreaker breaker = new CircuitBreaker("test", 1, 0, SLOW_CALL_MILLIS);
+    fail(breaker);
+
+    fail(breaker);
+
+    assertThat(breaker.state()).isEqualTo(State.OPEN);
+  }
+
+  private void fail(CircuitBreaker breaker) {
+    breaker.acquire();
+    breaker.onResult(1, true);
+  }
+
+  private void succeed(CircuitBreaker breaker) {
+    breaker.acquire();
+    breaker.onResult(1, false);
+  }
+}
@@ -0,0 +1,39 @@
+package com.likelion.danchu.infra.openAI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.likelion.danchu.infra.redis.RedisUtil;
+
+class EmbeddingCacheTest {
+
+  @Test
+  void 여러_임베딩을_파이프라인_한_번으로_저장한다() {
+    RedisUtil redisUtil = mock(RedisUtil.class);
+    EmbeddingCache cache = new EmbeddingCache(redisUtil, 10, 60);
+
+    cache.putAll("model", Map.of("커피", new float[] {1f, 0f}, "빵", new float[] {0f, 1f}));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, String>> written = ArgumentCaptor.forClass(Map.class);
+    verify(redisUtil).setAll(written.capture(), eq(60L));
+    assertThat(written.getValue()).hasSize(2);
+    verify(redisUtil, never()).setData(anyString(), anyString(), anyLong());
+
+    // 로컬 계층에 남아 Redis 를 읽지 않음
+    assertThat(cache.getAll("model", List.of("커피", "빵"))).containsOnlyKeys("커피", "빵");
+    verify(redisUtil, never()).multiGet(anyList());
+  }
+}
@@ -0,0 +1,88 @@
+package com.likelion.danchu.infra.openAI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+class EmbeddingResponseConsumerTest {
+
+  private static final String BODY =
+      "{\"data\":[{\"index\":1,\"embedding\":[0.5,-0.25]},"
+          + "{\"index\":0,\"embedding\":[1.0,2.0]}],\"usage\":{\"total_tokens\":4}}";
+
+  @Test
+  void 토큰_중간에서_끊긴_조각도_이어서_디코딩한다() throws Exception {
+    EmbeddingResponseConsumer.Result result = consume(200, BODY, 3);
+
+    assertThat(result.error()).isNull();
+    assertThat(result.vectors()).hasSize(2);
+    assertThat(result.vectors().get(0)).containsExactly(1.0f, 2.0f);
+    assertThat(result.vectors().get(1)).containsExactly(0.5f, -0.25f);
+  }
+
+  @Test
+  void 오류_응답의_본문은_디코딩하지_않는다() throws Exception {
+    EmbeddingResponseConsumer.Result result =
+        consume(429, "{\"error\":{\"message\":\"rate limited\"}}", 8);
+
+    assertThat(result.status()).isEqualTo(429);
+    assertThat(result.vectors()).isEmpty();
+    assertThat(result.error()).isNull();
+  }
+
+  @Test
+  void 잘못된_본문은_오류로_남기고_나머지를_버린다() throws Exception {
+    EmbeddingResponseConsumer.Result result = consume(200, "{\"data\":[{\"index\":5}]}", 4);
+
+    assertThat(result.vectors()).isEmpty();
+    assertThat(result.error()).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void 끊긴_본문은_오류로_처리한다() throws Exception {
+    EmbeddingResponseConsumer.Result result = consume(200, BODY.substring(0, 30), 8);
+
+    assertThat(result.vectors()).isEmpty();
+    assertThat(result.error()).isInstanceOf(IOException.class);
+  }
+
+  /** 본문을 chunkSize 바이트씩 나눠 넘긴 뒤 결과를 반환 */
+  private EmbeddingResponseConsumer.Result consume(int status, String body, int chunkSize)
+      throws IOException, HttpException {
+    EmbeddingResponseConsumer consumer = new EmbeddingResponseConsumer(2);
+    AtomicReference<EmbeddingResponseConsumer.Result> result = new AtomicReference<>();
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+    consumer.consumeResponse(
+        new BasicHttpResponse(status),
+        new BasicEntityDetails(bytes.length, ContentType.APPLICATION_JSON),
+        null,
+        new FutureCallback<>() {
+          @Override
+          public void completed(EmbeddingResponseConsumer.Result value) {
+            result.set(value);
+          }
+
+          @Override
+          public void failed(Exception ex) {}
+
+          @Override
+          public void cancelled() {}
+        });
+    for (int i = 0; i < bytes.length; i += chunkSize) {
+      consumer.consume(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+    }
+    consumer.streamEnd(null);
+    return result.get();
+  }
+}
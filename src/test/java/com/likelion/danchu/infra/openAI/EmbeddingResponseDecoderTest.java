@@ -0,0 +1,86 @@
+package com.likelion.danchu.infra.openAI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class EmbeddingResponseDecoderTest {
+
+  // /embeddings 응답 예시 (index 역순, 알 수 없는 필드 포함)
+  private static final String SAMPLE =
+      """
+      {
+        "object": "list",
+        "data": [
+          {"object": "embedding", "index": 1, "embedding": [0.5, -0.25, 1e-3]},
+          {"object": "embedding", "index": 0, "embedding": [1.0, 2.0, 3.0], "extra": {"a": [1]}}
+        ],
+        "model": "text-embedding-3-small",
+        "usage": {"prompt_tokens": 8, "total_tokens": 8}
+      }
+      """;
+
+  @Test
+  void index_순서로_벡터를_읽는다() throws IOException {
+    List<float[]> vectors = EmbeddingResponseDecoder.decode(stream(SAMPLE), 2);
+
+    assertThat(vectors).hasSize(2);
+    assertThat(vectors.get(0)).containsExactly(1.0f, 2.0f, 3.0f);
+    assertThat(vectors.get(1)).containsExactly(0.5f, -0.25f, 0.001f);
+  }
+
+  @Test
+  void 응답에_없는_index_는_null_로_남긴다() throws IOException {
+    String body = "{\"data\":[{\"index\":1,\"embedding\":[1.0]}]}";
+
+    List<float[]> vectors = EmbeddingResponseDecoder.decode(stream(body), 2);
+
+    assertThat(vectors).hasSize(2);
+    assertThat(vectors.get(0)).isNull();
+    assertThat(vectors.get(1)).containsExactly(1.0f);
+  }
+
+  @Test
+  void 범위를_벗어난_index_는_예외로_처리한다() {
+    String body = "{\"data\":[{\"index\":2147483000,\"embedding\":[1.0]}]}";
+
+    assertThatThrownBy(() -> EmbeddingResponseDecoder.decode(stream(body), 1))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("out of range");
+  }
+
+  @Test
+  void 음수_index_는_예외로_처리한다() {
+    String body = "{\"data\":[{\"index\":-1,\"embedding\":[1.0]}]}";
+
+    assertThatThrownBy(() -> EmbeddingResponseDecoder.decode(stream(body), 1))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void 호출자의_스트림을_닫지_않는다() throws IOException {
+    boolean[] closed = {false};
+    InputStream body =
+        new ByteArrayInputStream(SAMPLE.getBytes(StandardCharsets.UTF_8)) {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+
+    EmbeddingResponseDecoder.decode(body, 2);
+
+    assertThat(closed[0]).isFalse();
+  }
+
+  private InputStream stream(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,72 @@
+package com.likelion.danchu.infra.openAI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.danchu.infra.openAI.CircuitBreaker.State;
+
+class OpenAIUtilTest {
+
+  private OpenAIUtil openAIUtil;
+
+  @AfterEach
+  void tearDown() {
+    if (openAIUtil != null) {
+      openAIUtil.shutdown();
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void 요청이_동기_예외로_끝나도_시험_호출_결과를_알린다() {
+    CloseableHttpAsyncClient httpClient = mock(CloseableHttpAsyncClient.class);
+    when(httpClient.execute(
+            any(AsyncRequestProducer.class),
+            any(AsyncResponseConsumer.class),
+            any(FutureCallback.class)))
+        .thenThrow(new IllegalStateException("client closed"));
+    EmbeddingCache embeddingCache = mock(EmbeddingCache.class);
+    when(embeddingCache.getAll(anyString(), anyList())).thenReturn(Map.of());
+
+    // 한 번 실패해 열린 뒤, 열림 시간 0 이라 다음 호출이 시험 호출이 됨
+    CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, 0, 60_000);
+    circuitBreaker.acquire();
+    circuitBreaker.onResult(1, true);
+
+    openAIUtil =
+        new OpenAIUtil(
+            httpClient,
+            Runnable::run,
+            new ObjectMapper(),
+            "http://localhost",
+            "key",
+            "model",
+            embeddingCache,
+            1,
+            16,
+            circuitBreaker);
+
+    assertThatThrownBy(() -> openAIUtil.embedAllAsync(List.of("커피")).get(5, TimeUnit.SECONDS))
+        .hasRootCauseInstanceOf(IllegalStateException.class);
+
+    // 시험 호출 실패로 다시 열림 (진행 중 상태로 남으면 HALF_OPEN 에 고정됨)
+    assertThat(circuitBreaker.state()).isEqualTo(State.OPEN);
+  }
+}
@@ -0,0 +1,73 @@
+package com.likelion.danchu.infra.s3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.likelion.danchu.global.exception.CustomException;
+import com.likelion.danchu.infra.s3.S3Config;
+import com.likelion.danchu.infra.s3.exception.S3ErrorCode;
+import com.likelion.danchu.infra.s3.mapper.S3Mapper;
+
+@ExtendWith(MockitoExtension.class)
+class S3ServiceTest {
+
+  private static final String BUCKET_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/";
+
+  @Mock private AmazonS3 amazonS3;
+  @Mock private S3Config s3Config;
+  @Mock private S3Mapper s3Mapper;
+  @InjectMocks private S3Service s3Service;
+
+  @BeforeEach
+  void setUp() {
+    when(s3Config.getBucket()).thenReturn("bucket");
+    when(s3Config.getRegion()).thenReturn("ap-northeast-2");
+  }
+
+  @Test
+  void 일부_키_삭제_실패는_정리_작업에서는_성공한_개수만_센다() {
+    when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(partialFailure());
+
+    int deleted = s3Service.deleteByUrls(List.of(BUCKET_URL + "store/a.png", BUCKET_URL + "b.png"));
+
+    assertThat(deleted).isEqualTo(1);
+  }
+
+  @Test
+  void 일부_키_삭제_실패는_엄격_모드에서_예외로_알린다() {
+    when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(partialFailure());
+
+    assertThatThrownBy(
+            () ->
+                s3Service.deleteByUrlsOrThrow(
+                    List.of(BUCKET_URL + "store/a.png", BUCKET_URL + "b.png")))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(S3ErrorCode.FILE_DELETE_FAILED);
+  }
+
+  private MultiObjectDeleteException partialFailure() {
+    DeletedObject deleted = new DeletedObject();
+    deleted.setKey("store/a.png");
+    DeleteError error = new DeleteError();
+    error.setKey("b.png");
+    error.setCode("AccessDenied");
+    return new MultiObjectDeleteException(List.of(error), List.of(deleted));
+  }
+}
@@ -0,0 +1,148 @@
+package com.likelion.danchu.infra.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+
+class StreamGroupProcessorTest {
+
+  private static final String KEY = "danchu:events";
+  private static final String GROUP = "store-stats";
+  private static final Duration MIN_IDLE = Duration.ofSeconds(60);
+  private static final RecordId ID = RecordId.of("1-0");
+
+  private StreamOperations<String, Object, Object> operations;
+  private StreamGroupProcessor processor;
+  private final List<StreamEvent> handled = new ArrayList<>();
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    operations = mock(StreamOperations.class);
+    processor = new StreamGroupProcessor(operations, KEY, "host-a", MIN_IDLE, 3, 100, 1000);
+  }
+
+  @Test
+  void 처리에_성공하면_ACK_한다() {
+    boolean ok = processor.deliver(GROUP, handled::add, ID, fields());
+
+    assertThat(ok).isTrue();
+    assertThat(handled)
+        .singleElement()
+        .extracting(StreamEvent::type)
+        .isEqualTo(DomainEventType.STAMP_ACCRUED);
+    verify(operations).acknowledge(KEY, GROUP, ID);
+  }
+
+  @Test
+  void 처리에_실패하면_ACK_하지_않고_보류로_남긴다() {
+    boolean ok = processor.deliver(GROUP, failing(), ID, fields());
+
+    assertThat(ok).isFalse();
+    verify(operations, never())
+        .acknowledge(any(String.class), any(String.class), any(RecordId.class));
+  }
+
+  @Test
+  void 오래_보류된_메시지는_가져와_다시_처리하고_ACK_한다() {
+    pending(pendingMessage(ID, Duration.ofMinutes(5), 1));
+    when(operations.claim(eq(KEY), eq(GROUP), eq("host-a"), eq(MIN_IDLE), eq(ID)))
+        .thenReturn(List.of(record(ID)));
+
+    int recovered = processor.reclaim(GROUP, handled::add);
+
+    assertThat(recovered).isEqualTo(1);
+    assertThat(handled).hasSize(1);
+    verify(operations).acknowledge(KEY, GROUP, ID);
+  }
+
+  @Test
+  void 최근_전달된_보류_메시지는_건드리지_않는다() {
+    pending(pendingMessage(ID, Duration.ofSeconds(5), 1));
+
+    assertThat(processor.reclaim(GROUP, handled::add)).isZero();
+    verify(operations, never()).claim(any(), any(), any(), any(), any(RecordId[].class));
+  }
+
+  @Test
+  void 전달_횟수를_넘기면_dead_letter_로_옮기고_ACK_한다() {
+    pending(pendingMessage(ID, Duration.ofMinutes(5), 3));
+    when(operations.claim(eq(KEY), eq(GROUP), eq("host-a"), eq(MIN_IDLE), eq(ID)))
+        .thenReturn(List.of(record(ID)));
+
+    int recovered = processor.reclaim(GROUP, handled::add);
+
+    assertThat(recovered).isZero();
+    assertThat(handled).isEmpty();
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<MapRecord<String, String, String>> dead =
+        ArgumentCaptor.forClass(MapRecord.class);
+    verify(operations).add(dead.capture(), any(XAddOptions.class));
+    assertThat(dead.getValue().getStream())
+        .isEqualTo(KEY + StreamGroupProcessor.DEAD_LETTER_SUFFIX);
+    assertThat(dead.getValue().getValue())
+        .containsEntry("deadLetter.group", GROUP)
+        .containsEntry("deadLetter.id", "1-0")
+        .containsEntry("userId", "7");
+    verify(operations).acknowledge(KEY, GROUP, ID);
+  }
+
+  @Test
+  void 스트림에서_잘려_나간_보류_메시지는_ACK_로_정리한다() {
+    pending(pendingMessage(ID, Duration.ofMinutes(5), 1));
+    when(operations.claim(eq(KEY), eq(GROUP), eq("host-a"), eq(MIN_IDLE), eq(ID)))
+        .thenReturn(List.of());
+
+    processor.reclaim(GROUP, handled::add);
+
+    verify(operations).acknowledge(KEY, GROUP, ID);
+  }
+
+  private void pending(PendingMessage... messages) {
+    when(operations.pending(KEY, GROUP, Range.unbounded(), 100L))
+        .thenReturn(new PendingMessages(GROUP, List.of(messages)));
+  }
+
+  private static PendingMessage pendingMessage(RecordId id, Duration idle, long deliveries) {
+    return new PendingMessage(
+        id,
+        org.springframework.data.redis.connection.stream.Consumer.from(GROUP, "host-b"),
+        idle,
+        deliveries);
+  }
+
+  private static MapRecord<String, Object, Object> record(RecordId id) {
+    return MapRecord.<String, Object, Object>create(KEY, Map.copyOf(fields())).withId(id);
+  }
+
+  private static Map<String, String> fields() {
+    return Map.of("type", "STAMP_ACCRUED", "userId", "7", "storeId", "3");
+  }
+
+  private static Consumer<StreamEvent> failing() {
+    return event -> {
+      throw new IllegalStateException("boom");
+    };
+  }
+}